@@ -0,0 +1,139 @@
+package com.android.calendarview.utils;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * DayMaskSet keeps masks in SparseIntArray, so these tests run on a device
+ */
+public class DayMaskSetTest {
+
+    private static final int JANUARY_2024 = 2024 * 12 + Calendar.JANUARY;
+    private static final int FEBRUARY_2024 = 2024 * 12 + Calendar.FEBRUARY;
+
+    @Test
+    public void add_usesAllBitsOfLongMonths() {
+        DayMaskSet days = new DayMaskSet();
+        days.add(2024, Calendar.JANUARY, 31);
+        days.add(2024, Calendar.JANUARY, 1);
+
+        assertTrue(days.contains(2024, Calendar.JANUARY, 31));
+        assertTrue(days.contains(2024, Calendar.JANUARY, 1));
+        assertFalse(days.contains(2024, Calendar.JANUARY, 30));
+        assertEquals(0x40000001, days.getMonthMask(JANUARY_2024));
+    }
+
+    @Test
+    public void addMonthMask_ignoresDaysAfterTheEndOfMonth() {
+        DayMaskSet days = new DayMaskSet();
+        days.addMonthMask(FEBRUARY_2024, -1);
+
+        assertEquals(29, days.size());
+        assertEquals((1 << 29) - 1, days.getMonthMask(FEBRUARY_2024));
+    }
+
+    @Test
+    public void addRange_coversWholeMonthsBetweenEnds() {
+        DayMaskSet days = new DayMaskSet();
+        days.addRange(EpochDay.of(2023, Calendar.DECEMBER, 31), EpochDay.of(2024, Calendar.MARCH, 1));
+
+        assertEquals(1 + 31 + 29 + 1, days.size());
+        assertTrue(days.contains(EpochDay.of(2023, Calendar.DECEMBER, 31)));
+        assertFalse(days.contains(EpochDay.of(2023, Calendar.DECEMBER, 30)));
+        assertTrue(days.contains(EpochDay.of(2024, Calendar.MARCH, 1)));
+        assertFalse(days.contains(EpochDay.of(2024, Calendar.MARCH, 2)));
+    }
+
+    @Test
+    public void addRange_ignoresReversedRange() {
+        DayMaskSet days = new DayMaskSet();
+        days.addRange(EpochDay.of(2024, Calendar.MARCH, 2), EpochDay.of(2024, Calendar.MARCH, 1));
+
+        assertTrue(days.isEmpty());
+    }
+
+    @Test
+    public void count_countsOnlyDaysBetweenDates() {
+        DayMaskSet days = new DayMaskSet();
+        days.addMonthMask(1969 * 12 + Calendar.DECEMBER, -1);
+        days.addMonthMask(1970 * 12 + Calendar.JANUARY, -1);
+
+        assertEquals(62, days.count(EpochDay.of(1969, Calendar.NOVEMBER, 1), EpochDay.of(1970, Calendar.FEBRUARY, 1)));
+        assertEquals(2, days.count(EpochDay.of(1969, Calendar.DECEMBER, 31), EpochDay.of(1970, Calendar.JANUARY, 1)));
+        assertEquals(1, days.count(EpochDay.of(1970, Calendar.JANUARY, 31), EpochDay.of(1970, Calendar.JANUARY, 31)));
+        assertEquals(0, days.count(EpochDay.of(1970, Calendar.FEBRUARY, 1), EpochDay.of(1970, Calendar.MARCH, 1)));
+        assertEquals(0, days.count(EpochDay.of(1970, Calendar.JANUARY, 2), EpochDay.of(1970, Calendar.JANUARY, 1)));
+    }
+
+    @Test
+    public void addDayOfWeek_addsEveryOccurrenceOfTheDay() {
+        DayMaskSet days = new DayMaskSet();
+        days.addDayOfWeek(JANUARY_2024, FEBRUARY_2024, Calendar.MONDAY);
+
+        // January 2024 starts on Monday and February 2024 on Thursday
+        assertEquals(5 + 4, days.size());
+        assertTrue(days.contains(2024, Calendar.JANUARY, 1));
+        assertTrue(days.contains(2024, Calendar.JANUARY, 29));
+        assertTrue(days.contains(2024, Calendar.FEBRUARY, 5));
+        assertTrue(days.contains(2024, Calendar.FEBRUARY, 26));
+        assertFalse(days.contains(2024, Calendar.FEBRUARY, 1));
+
+        for (Calendar day : days.toCalendarList()) {
+            assertEquals(Calendar.MONDAY, day.get(Calendar.DAY_OF_WEEK));
+        }
+    }
+
+    @Test
+    public void getChangedDays_returnsDaysOfOnlyOneSet() {
+        DayMaskSet previousDays = new DayMaskSet();
+        previousDays.addRange(EpochDay.of(2024, Calendar.JANUARY, 30), EpochDay.of(2024, Calendar.FEBRUARY, 2));
+
+        DayMaskSet days = new DayMaskSet();
+        days.addRange(EpochDay.of(2024, Calendar.FEBRUARY, 1), EpochDay.of(2024, Calendar.FEBRUARY, 3));
+        days.add(2024, Calendar.MARCH, 1);
+
+        DayMaskSet changedDays = previousDays.getChangedDays(days);
+
+        assertEquals(4, changedDays.size());
+        assertTrue(changedDays.contains(EpochDay.of(2024, Calendar.JANUARY, 30)));
+        assertTrue(changedDays.contains(EpochDay.of(2024, Calendar.JANUARY, 31)));
+        assertTrue(changedDays.contains(EpochDay.of(2024, Calendar.FEBRUARY, 3)));
+        assertTrue(changedDays.contains(EpochDay.of(2024, Calendar.MARCH, 1)));
+        assertTrue(days.getChangedDays(days).isEmpty());
+    }
+
+    @Test
+    public void removeAll_dropsEmptyMonths() {
+        DayMaskSet days = new DayMaskSet();
+        days.addMonthMask(JANUARY_2024, -1);
+        days.addMonthMask(FEBRUARY_2024, -1);
+
+        DayMaskSet january = new DayMaskSet();
+        january.addMonthMask(JANUARY_2024, -1);
+        days.removeAll(january);
+
+        assertEquals(0, days.getMonthMask(JANUARY_2024));
+        assertEquals(29, days.size());
+    }
+
+    @Test
+    public void toCalendarList_returnsSortedDays() {
+        DayMaskSet days = new DayMaskSet();
+        days.add(2024, Calendar.FEBRUARY, 3);
+        days.add(1969, Calendar.DECEMBER, 31);
+        days.add(2024, Calendar.FEBRUARY, 1);
+
+        List<Calendar> calendars = days.toCalendarList();
+
+        assertEquals(3, calendars.size());
+        assertEquals(EpochDay.of(1969, Calendar.DECEMBER, 31), EpochDay.of(calendars.get(0)));
+        assertEquals(EpochDay.of(2024, Calendar.FEBRUARY, 1), EpochDay.of(calendars.get(1)));
+        assertEquals(EpochDay.of(2024, Calendar.FEBRUARY, 3), EpochDay.of(calendars.get(2)));
+    }
+}
@@ -0,0 +1,74 @@
+package com.android.calendarview.utils;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * MonthGrid objects are cached in SparseArray, so these tests run on a device
+ */
+public class MonthGridTest {
+
+    private static final int FEBRUARY_2024 = 2024 * 12 + Calendar.FEBRUARY;
+
+    @Test
+    public void get_returnsSharedGrid() {
+        assertSame(MonthGrid.get(FEBRUARY_2024), MonthGrid.get(FEBRUARY_2024));
+    }
+
+    @Test
+    public void grid_startsOnMondayBeforeTheMonth() {
+        MonthGrid monthGrid = MonthGrid.get(FEBRUARY_2024);
+
+        // February 2024 starts on Thursday
+        assertEquals(3, monthGrid.getMonthBeginningCell());
+        assertEquals(29, monthGrid.getDaysInMonth());
+        assertEquals(42 - 3 - 29, monthGrid.getNextMonthDaysCount());
+        assertEquals(EpochDay.of(2024, Calendar.JANUARY, 29), monthGrid.getFirstDay());
+        assertEquals(monthGrid.getFirstDay() + 41, monthGrid.getLastDay());
+        assertEquals(Calendar.MONDAY, EpochDay.getDayOfWeek(monthGrid.getFirstDay()));
+    }
+
+    @Test
+    public void cells_containDaysOfThreeMonths() {
+        MonthGrid monthGrid = MonthGrid.get(FEBRUARY_2024);
+
+        assertEquals(MonthGrid.PREVIOUS_MONTH, monthGrid.getCellMonth(2));
+        assertEquals("31", monthGrid.getDayLabel(2));
+        assertEquals(MonthGrid.CURRENT_MONTH, monthGrid.getCellMonth(3));
+        assertEquals(1, monthGrid.getDayOfMonth(3));
+        assertEquals(MonthGrid.CURRENT_MONTH, monthGrid.getCellMonth(31));
+        assertEquals(29, monthGrid.getDayOfMonth(31));
+        assertEquals(MonthGrid.NEXT_MONTH, monthGrid.getCellMonth(32));
+        assertEquals(1, monthGrid.getDayOfMonth(32));
+    }
+
+    @Test
+    public void getCell_findsOnlyDaysOfThePage() {
+        MonthGrid monthGrid = MonthGrid.get(FEBRUARY_2024);
+        int firstDayOfMonth = EpochDay.of(2024, Calendar.FEBRUARY, 1);
+
+        assertEquals(3, monthGrid.getCell(firstDayOfMonth));
+        assertEquals(firstDayOfMonth, monthGrid.getDay(3));
+        assertEquals(-1, monthGrid.getCell(monthGrid.getFirstDay() - 1));
+        assertEquals(-1, monthGrid.getCell(monthGrid.getLastDay() + 1));
+        assertTrue(monthGrid.isCurrentMonthDay(firstDayOfMonth));
+        assertFalse(monthGrid.isCurrentMonthDay(firstDayOfMonth - 1));
+    }
+
+    @Test
+    public void grid_handlesMonthsBeforeEpoch() {
+        // December 1969 starts on Monday, so the page begins with the month
+        MonthGrid monthGrid = MonthGrid.get(1969 * 12 + Calendar.DECEMBER);
+
+        assertEquals(0, monthGrid.getMonthBeginningCell());
+        assertEquals(EpochDay.of(1969, Calendar.DECEMBER, 1), monthGrid.getFirstDay());
+        assertEquals(MonthGrid.NEXT_MONTH, monthGrid.getCellMonth(31));
+        assertEquals(EpochDay.of(1970, Calendar.JANUARY, 11), monthGrid.getLastDay());
+    }
+}
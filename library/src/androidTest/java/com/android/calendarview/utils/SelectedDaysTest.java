@@ -0,0 +1,152 @@
+package com.android.calendarview.utils;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A range of SelectedDays excludes days kept in DayMaskSet, so these tests run on a device
+ */
+public class SelectedDaysTest {
+
+    private static final int FIRST_DAY = EpochDay.of(2024, Calendar.JANUARY, 30);
+    private static final int LAST_DAY = EpochDay.of(2024, Calendar.FEBRUARY, 3);
+
+    @Test
+    public void toList_sortsSingleDays() {
+        SelectedDays selectedDays = new SelectedDays();
+        selectedDays.add(new SelectedDay(LAST_DAY));
+        selectedDays.add(new SelectedDay(FIRST_DAY));
+
+        List<SelectedDay> days = selectedDays.toList();
+
+        assertEquals(2, days.size());
+        assertEquals(FIRST_DAY, days.get(0).getEpochDay());
+        assertEquals(LAST_DAY, days.get(1).getEpochDay());
+        assertEquals(FIRST_DAY, selectedDays.getFirst().getEpochDay());
+    }
+
+    @Test
+    public void add_replacesDayOfTheSameDate() {
+        SelectedDay selectedDay = new SelectedDay(FIRST_DAY);
+
+        SelectedDays selectedDays = new SelectedDays();
+        selectedDays.add(new SelectedDay(FIRST_DAY));
+        selectedDays.add(selectedDay);
+
+        assertEquals(1, selectedDays.size());
+        assertSame(selectedDay, selectedDays.get(FIRST_DAY));
+        assertTrue(selectedDays.contains(EpochDay.toCalendar(FIRST_DAY)));
+    }
+
+    @Test
+    public void remove_updatesSortedDays() {
+        SelectedDays selectedDays = new SelectedDays();
+        selectedDays.add(new SelectedDay(FIRST_DAY));
+        selectedDays.add(new SelectedDay(LAST_DAY));
+        selectedDays.toList();
+
+        assertEquals(FIRST_DAY, selectedDays.remove(FIRST_DAY).getEpochDay());
+        assertNull(selectedDays.remove(FIRST_DAY));
+        assertEquals(1, selectedDays.toList().size());
+        assertEquals(LAST_DAY, selectedDays.getFirst().getEpochDay());
+    }
+
+    @Test
+    public void setRange_expandsDaysWithoutExcludedOnes() {
+        DayMaskSet excludedDays = new DayMaskSet();
+        excludedDays.add(2024, Calendar.JANUARY, 31);
+        excludedDays.add(2024, Calendar.FEBRUARY, 4);
+
+        SelectedDays selectedDays = new SelectedDays();
+        selectedDays.setRange(LAST_DAY, FIRST_DAY, excludedDays);
+
+        List<SelectedDay> days = selectedDays.toList();
+
+        assertEquals(5, selectedDays.getRangeLength());
+        assertEquals(4, selectedDays.size());
+        assertEquals(4, days.size());
+        assertEquals(FIRST_DAY, days.get(0).getEpochDay());
+        assertEquals(FIRST_DAY + 2, days.get(1).getEpochDay());
+        assertEquals(LAST_DAY, days.get(3).getEpochDay());
+        assertFalse(selectedDays.contains(FIRST_DAY + 1));
+        assertTrue(selectedDays.contains(FIRST_DAY + 2));
+    }
+
+    @Test
+    public void getFirst_skipsExcludedFirstDayOfRange() {
+        DayMaskSet excludedDays = new DayMaskSet();
+        excludedDays.add(2024, Calendar.JANUARY, 30);
+
+        SelectedDays selectedDays = new SelectedDays();
+        selectedDays.setRange(FIRST_DAY, LAST_DAY, excludedDays);
+
+        assertEquals(FIRST_DAY + 1, selectedDays.getFirst().getEpochDay());
+    }
+
+    @Test
+    public void add_countsStoredDaysOutsideRangeOnce() {
+        SelectedDays selectedDays = new SelectedDays();
+        selectedDays.add(new SelectedDay(FIRST_DAY));
+        selectedDays.setRange(FIRST_DAY, LAST_DAY, new DayMaskSet());
+
+        // A stored day inside the range is not counted twice
+        assertEquals(5, selectedDays.size());
+
+        selectedDays.add(new SelectedDay(LAST_DAY + 10));
+
+        assertEquals(6, selectedDays.size());
+        assertEquals(LAST_DAY + 10, selectedDays.toList().get(5).getEpochDay());
+    }
+
+    @Test
+    public void removeAll_excludesDaysFromRangeAndStoredDays() {
+        SelectedDays selectedDays = new SelectedDays();
+        selectedDays.setRange(FIRST_DAY, LAST_DAY, new DayMaskSet());
+        selectedDays.add(new SelectedDay(LAST_DAY + 10));
+
+        DayMaskSet disabledDays = new DayMaskSet();
+        disabledDays.add(2024, Calendar.FEBRUARY, 1);
+        disabledDays.add(2024, Calendar.FEBRUARY, 13);
+        selectedDays.removeAll(disabledDays);
+
+        assertEquals(4, selectedDays.size());
+        assertFalse(selectedDays.contains(FIRST_DAY + 2));
+        assertFalse(selectedDays.contains(LAST_DAY + 10));
+        assertNull(selectedDays.get(LAST_DAY + 10));
+    }
+
+    @Test
+    public void getDays_returnsRangeAsMasks() {
+        DayMaskSet excludedDays = new DayMaskSet();
+        excludedDays.add(FIRST_DAY + 1);
+
+        SelectedDays selectedDays = new SelectedDays();
+        selectedDays.setRange(FIRST_DAY, LAST_DAY, excludedDays);
+
+        DayMaskSet days = selectedDays.getDays();
+
+        assertEquals(4, days.size());
+        assertFalse(days.contains(FIRST_DAY + 1));
+        assertTrue(days.contains(LAST_DAY));
+    }
+
+    @Test
+    public void clear_removesRange() {
+        SelectedDays selectedDays = new SelectedDays();
+        selectedDays.setRange(FIRST_DAY, LAST_DAY, null);
+
+        selectedDays.clear();
+
+        assertTrue(selectedDays.isEmpty());
+        assertEquals(0, selectedDays.getRangeLength());
+        assertNull(selectedDays.getFirst());
+    }
+}
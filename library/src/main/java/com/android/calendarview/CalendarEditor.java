@@ -0,0 +1,158 @@
+package com.android.calendarview;
+
+import com.android.calendarview.exceptions.OutOfDateRangeException;
+import com.android.calendarview.utils.DayMaskSet;
+
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * This class collects changes of a calendar, which are applied together when commit() is called.
+ * Pages are refreshed once after all changes and only pages displaying changed days are rebound,
+ * unless minimum or maximum dates have changed.
+ * <p>
+ * An editor is created by CalendarView.edit().
+ * <p>
+ */
+
+public class CalendarEditor {
+    private CalendarView mCalendarView;
+
+    private List<EventDay> mEventDays;
+    private DayMaskSet mDisabledDays, mHighlightedDays;
+    private List<Calendar> mSelectedDates;
+    private Calendar mDate, mMinimumDate, mMaximumDate;
+
+    private boolean mEventDaysChanged, mMinimumDateChanged, mMaximumDateChanged;
+
+    CalendarEditor(CalendarView calendarView) {
+        mCalendarView = calendarView;
+    }
+
+    /**
+     * @param eventDays List of EventDay objects
+     * @return The editor object to allow for chaining of methods
+     * @see CalendarView#setEvents(List)
+     */
+    public CalendarEditor setEvents(List<EventDay> eventDays) {
+        mEventDays = eventDays;
+        mEventDaysChanged = true;
+        return this;
+    }
+
+    public CalendarEditor setDisabledDays(List<Calendar> disabledDays) {
+        return setDisabledDays(new DayMaskSet(disabledDays));
+    }
+
+    /**
+     * @param disabledDays DayMaskSet object containing disabled days
+     * @return The editor object to allow for chaining of methods
+     */
+    public CalendarEditor setDisabledDays(DayMaskSet disabledDays) {
+        mDisabledDays = disabledDays;
+        return this;
+    }
+
+    public CalendarEditor setHighlightedDays(List<Calendar> highlightedDays) {
+        return setHighlightedDays(new DayMaskSet(highlightedDays));
+    }
+
+    /**
+     * @param highlightedDays DayMaskSet object containing highlighted days
+     * @return The editor object to allow for chaining of methods
+     */
+    public CalendarEditor setHighlightedDays(DayMaskSet highlightedDays) {
+        mHighlightedDays = highlightedDays;
+        return this;
+    }
+
+    /**
+     * @param selectedDates List of Calendar objects representing selected dates
+     * @return The editor object to allow for chaining of methods
+     * @see CalendarView#setSelectedDates(List)
+     */
+    public CalendarEditor setSelectedDates(List<Calendar> selectedDates) {
+        mSelectedDates = selectedDates;
+        return this;
+    }
+
+    /**
+     * @param date A Calendar object representing a date to which the calendar will be set
+     * @return The editor object to allow for chaining of methods
+     * @see CalendarView#setDate(Calendar)
+     */
+    public CalendarEditor setDate(Calendar date) {
+        mDate = date;
+        return this;
+    }
+
+    /**
+     * @param calendar Calendar object representing a minimum date or null to remove the limit
+     * @return The editor object to allow for chaining of methods
+     */
+    public CalendarEditor setMinimumDate(Calendar calendar) {
+        mMinimumDate = calendar;
+        mMinimumDateChanged = true;
+        return this;
+    }
+
+    /**
+     * @param calendar Calendar object representing a maximum date or null to remove the limit
+     * @return The editor object to allow for chaining of methods
+     */
+    public CalendarEditor setMaximumDate(Calendar calendar) {
+        mMaximumDate = calendar;
+        mMaximumDateChanged = true;
+        return this;
+    }
+
+    /**
+     * This method applies all changes and refreshes the calendar once. A date set by setDate() is
+     * checked against new minimum and maximum dates before any change is applied.
+     *
+     * @throws OutOfDateRangeException If the date is not between minimum and maximum dates
+     */
+    public void commit() throws OutOfDateRangeException {
+        mCalendarView.commit(this);
+    }
+
+    List<EventDay> getEventDays() {
+        return mEventDays;
+    }
+
+    boolean isEventDaysChanged() {
+        return mEventDaysChanged;
+    }
+
+    DayMaskSet getDisabledDays() {
+        return mDisabledDays;
+    }
+
+    DayMaskSet getHighlightedDays() {
+        return mHighlightedDays;
+    }
+
+    List<Calendar> getSelectedDates() {
+        return mSelectedDates;
+    }
+
+    Calendar getDate() {
+        return mDate;
+    }
+
+    Calendar getMinimumDate() {
+        return mMinimumDate;
+    }
+
+    boolean isMinimumDateChanged() {
+        return mMinimumDateChanged;
+    }
+
+    Calendar getMaximumDate() {
+        return mMaximumDate;
+    }
+
+    boolean isMaximumDateChanged() {
+        return mMaximumDateChanged;
+    }
+}
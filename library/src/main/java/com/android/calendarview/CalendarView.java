@@ -1,6 +1,7 @@
 package com.android.calendarview;
 
 import android.content.Context;
+import android.content.res.Configuration;
 import android.content.res.TypedArray;
 import android.graphics.drawable.Drawable;
 import android.util.AttributeSet;
@@ -10,25 +11,37 @@ import android.widget.LinearLayout;
 import android.widget.TextView;
 
 import androidx.annotation.ColorRes;
+import androidx.annotation.DrawableRes;
 import androidx.viewpager.widget.ViewPager;
 
 import com.annimon.stream.Stream;
 import com.android.calendarview.adapters.CalendarPageAdapter;
+import com.android.calendarview.adapters.CalendarPagePool;
 import com.android.calendarview.exceptions.ErrorsMessages;
 import com.android.calendarview.exceptions.OutOfDateRangeException;
 import com.android.calendarview.extensions.CalendarViewPager;
 import com.android.calendarview.listeners.OnCalendarPageChangeListener;
 import com.android.calendarview.listeners.OnDayClickListener;
+import com.android.calendarview.listeners.OnPageSettledListener;
+import com.android.calendarview.listeners.OnVisibleRangeChangeListener;
 import com.android.calendarview.utils.AppearanceUtils;
+import com.android.calendarview.utils.CalendarLabels;
 import com.android.calendarview.utils.CalendarProperties;
 import com.android.calendarview.utils.DateUtils;
+import com.android.calendarview.utils.DayMaskSet;
+import com.android.calendarview.utils.EpochDay;
+import com.android.calendarview.utils.EventDaysIndex;
+import com.android.calendarview.utils.EventDaysIndexLoader;
+import com.android.calendarview.utils.EventSourceLoader;
+import com.android.calendarview.utils.EventStore;
+import com.android.calendarview.utils.MonthGrid;
 import com.android.calendarview.utils.SelectedDay;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 
-import static com.android.calendarview.utils.CalendarProperties.FIRST_VISIBLE_PAGE;
 
 
 /**
@@ -49,6 +62,8 @@ import static com.android.calendarview.utils.CalendarProperties.FIRST_VISIBLE_PA
  * - Ser forward button resource: forwardButtonSrc="@drawable/[drawable]"
  * - Set today label color: todayLabelColor="@color/[color]"
  * - Set selection color: selectionColor="@color/[color]"
+ * - Draw pages without inflated day cells: monthViewEnabled="true"
+ * - Inflate pages on a background thread: asyncInflationEnabled="true"
  * <p>
  */
 
@@ -65,10 +80,19 @@ public class CalendarView extends LinearLayout {
     private ImageButton mForwardButton;
     private ImageButton mPreviousButton;
     private TextView mCurrentMonthLabel;
-    private int mCurrentPage;
+    private int mCurrentMonthIndex;
+    private int mSettledMonthIndex = Integer.MIN_VALUE;
+    private int mScrollState = ViewPager.SCROLL_STATE_IDLE;
+
+    // A range reported to OnVisibleRangeChangeListener, it is pending until the pager is idle
+    private int mRangeMonthIndex = Integer.MIN_VALUE;
+    private int mRangeFirstPrefetchDay, mRangeLastPrefetchDay;
+    private boolean mRangePending;
     private CalendarViewPager mViewPager;
 
     private CalendarProperties mCalendarProperties;
+    private EventSourceLoader mEventSourceLoader;
+    private EventDaysIndexLoader mEventDaysIndexLoader = new EventDaysIndexLoader();
 
     public CalendarView(Context context, AttributeSet attrs) {
         super(context, attrs);
@@ -178,6 +202,12 @@ public class CalendarView extends LinearLayout {
         boolean swipeEnabled = typedArray.getBoolean(R.styleable.CalendarView_swipeEnabled, true);
         mCalendarProperties.setSwipeEnabled(swipeEnabled);
 
+        boolean monthViewEnabled = typedArray.getBoolean(R.styleable.CalendarView_monthViewEnabled, false);
+        mCalendarProperties.setMonthViewEnabled(monthViewEnabled);
+
+        boolean asyncInflationEnabled = typedArray.getBoolean(R.styleable.CalendarView_asyncInflationEnabled, false);
+        mCalendarProperties.setAsyncInflationEnabled(asyncInflationEnabled);
+
         Drawable previousButtonSrc = typedArray.getDrawable(R.styleable.CalendarView_previousButtonSrc);
         mCalendarProperties.setPreviousButtonSrc(previousButtonSrc);
 
@@ -244,11 +274,39 @@ public class CalendarView extends LinearLayout {
     }
 
     private void setCalendarRowLayout() {
-        if (mCalendarProperties.getEventsEnabled()) {
-            mCalendarProperties.setItemLayoutResource(R.layout.calendar_view_day);
-        } else {
-            mCalendarProperties.setItemLayoutResource(R.layout.calendar_view_picker_day);
-        }
+        mCalendarProperties.setItemLayoutResource(getDayLayout(mCalendarProperties.getEventsEnabled()));
+    }
+
+    private static int getDayLayout(boolean eventsEnabled) {
+        return eventsEnabled ? R.layout.calendar_view_day : R.layout.calendar_view_picker_day;
+    }
+
+    /**
+     * This method starts inflating calendar pages on a background thread, so a calendar created
+     * later with the same context takes them instead of inflating them on the main thread.
+     * Pages are released when an activity of the context is destroyed, other calendars of
+     * the context can still take them after this calendar is detached from a window.
+     *
+     * @param context       A context which will be used to create the calendar
+     * @param eventsEnabled Boolean value if the calendar will display events
+     */
+    public static void warmUpPages(Context context, boolean eventsEnabled) {
+        CalendarPagePool.warmUp(context, getDayLayout(eventsEnabled));
+    }
+
+    @Override
+    protected void onConfigurationChanged(Configuration newConfig) {
+        super.onConfigurationChanged(newConfig);
+
+        // Default colors can depend on a night mode, so they are resolved again for all pages
+        mCalendarProperties.invalidatePalette();
+        mCalendarPageAdapter.notifyPagesChanged();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        removeCallbacks(mPageSettledRunnable);
     }
 
     private void initUiElements() {
@@ -269,6 +327,8 @@ public class CalendarView extends LinearLayout {
         mViewPager.setAdapter(mCalendarPageAdapter);
         mViewPager.addOnPageChangeListener(onPageChangeListener);
 
+        mCalendarProperties.getEventStore().setOnEventsChangedListener(mCalendarPageAdapter::notifyDaysChanged);
+
         setUpCalendarPosition(Calendar.getInstance());
     }
 
@@ -279,10 +339,37 @@ public class CalendarView extends LinearLayout {
             mCalendarProperties.setSelectedDay(calendar);
         }
 
-        mCalendarProperties.getFirstPageCalendarDate().setTime(calendar.getTime());
-        mCalendarProperties.getFirstPageCalendarDate().add(Calendar.MONTH, -FIRST_VISIBLE_PAGE);
+        setUpPages(EpochDay.getMonthIndex(calendar));
+    }
+
+    // Pages are moved around the month and all attached pages are replaced
+    private void setUpPages(int monthIndex) {
+        int position = mCalendarProperties.setUpPages(monthIndex);
+
+        mCalendarPageAdapter.notifyPagesRangeChanged();
+        mViewPager.setCurrentItem(position, false);
+
+        // A page is not selected again if it has the same position, but it shows a new month
+        setHeaderName(getPageMonthIndex(position));
+        reportVisibleRange(getPageMonthIndex(position));
+
+        if (mEventSourceLoader != null) {
+            mEventSourceLoader.setCurrentMonth(getPageMonthIndex(position));
+        }
+
+        schedulePageSettled();
+    }
+
+    // Pages are moved when the calendar is scrolled to their edge which is not a minimum or maximum month
+    private void movePagesAtEdge() {
+        int position = mViewPager.getCurrentItem();
+        int monthIndex = getPageMonthIndex(position);
 
-        mViewPager.setCurrentItem(FIRST_VISIBLE_PAGE);
+        if ((position == 0 && monthIndex > mCalendarProperties.getMinimumMonthIndex())
+                || (position == mCalendarProperties.getPagesCount() - 1
+                && monthIndex < mCalendarProperties.getMaximumMonthIndex())) {
+            setUpPages(monthIndex);
+        }
     }
 
     public void setOnPreviousPageChangeListener(OnCalendarPageChangeListener listener) {
@@ -293,6 +380,109 @@ public class CalendarView extends LinearLayout {
         mCalendarProperties.setOnForwardPageChangeListener(listener);
     }
 
+    /**
+     * This method sets a listener which is called once when scrolling has stopped for a quiet
+     * period, pages passed during a fling are skipped and the same month is not passed twice
+     *
+     * @param listener OnPageSettledListener interface receiving a month of a settled page
+     * @see OnPageSettledListener
+     */
+    public void setOnPageSettledListener(OnPageSettledListener listener) {
+        mCalendarProperties.setOnPageSettledListener(listener);
+        mSettledMonthIndex = Integer.MIN_VALUE;
+        schedulePageSettled();
+    }
+
+    /**
+     * @param delay A quiet period in milliseconds after scrolling, before a page is treated as settled
+     */
+    public void setPageSettledDelay(long delay) {
+        mCalendarProperties.setPageSettledDelay(delay);
+    }
+
+    /**
+     * This method sets a listener which receives days rendered by a current page and by
+     * neighbouring pages whenever another page is selected. The current range is passed
+     * immediately.
+     *
+     * @param listener OnVisibleRangeChangeListener interface receiving ranges of days
+     * @see OnVisibleRangeChangeListener
+     */
+    public void setOnVisibleRangeChangeListener(OnVisibleRangeChangeListener listener) {
+        mCalendarProperties.setOnVisibleRangeChangeListener(listener);
+        mRangeMonthIndex = Integer.MIN_VALUE;
+        mRangePending = false;
+        reportVisibleRange(getPageMonthIndex(mViewPager.getCurrentItem()));
+    }
+
+    /**
+     * @param prefetchPagesCount A number of pages on each side of a current page included in
+     *                           a prefetch range passed to OnVisibleRangeChangeListener
+     */
+    public void setPrefetchPagesCount(int prefetchPagesCount) {
+        mCalendarProperties.setPrefetchPagesCount(prefetchPagesCount);
+    }
+
+    private void reportVisibleRange(int monthIndex) {
+        OnVisibleRangeChangeListener listener = mCalendarProperties.getOnVisibleRangeChangeListener();
+
+        if (listener == null) {
+            return;
+        }
+
+        // Prefetched pages don't exceed minimum and maximum months like calendar pages
+        int prefetchPagesCount = mCalendarProperties.getPrefetchPagesCount();
+        int firstPrefetchDay = MonthGrid.get(Math.max(mCalendarProperties.getMinimumMonthIndex(),
+                monthIndex - prefetchPagesCount)).getFirstDay();
+        int lastPrefetchDay = MonthGrid.get(Math.min(mCalendarProperties.getMaximumMonthIndex(),
+                monthIndex + prefetchPagesCount)).getLastDay();
+
+        // Moved pages show the same month, so the range is not reported again
+        if (monthIndex == mRangeMonthIndex && firstPrefetchDay == mRangeFirstPrefetchDay
+                && lastPrefetchDay == mRangeLastPrefetchDay) {
+            return;
+        }
+
+        if (mRangePending) {
+            listener.onVisibleRangeCancelled(mRangeFirstPrefetchDay, mRangeLastPrefetchDay);
+        }
+
+        mRangeMonthIndex = monthIndex;
+        mRangeFirstPrefetchDay = firstPrefetchDay;
+        mRangeLastPrefetchDay = lastPrefetchDay;
+        mRangePending = mScrollState != ViewPager.SCROLL_STATE_IDLE;
+
+        MonthGrid monthGrid = MonthGrid.get(monthIndex);
+        listener.onVisibleRangeChanged(monthGrid.getFirstDay(), monthGrid.getLastDay(), firstPrefetchDay, lastPrefetchDay);
+    }
+
+    private final Runnable mPageSettledRunnable = this::onPageSettled;
+
+    private void schedulePageSettled() {
+        removeCallbacks(mPageSettledRunnable);
+
+        if (mScrollState == ViewPager.SCROLL_STATE_IDLE) {
+            postDelayed(mPageSettledRunnable, mCalendarProperties.getPageSettledDelay());
+        }
+    }
+
+    private void onPageSettled() {
+        OnPageSettledListener listener = mCalendarProperties.getOnPageSettledListener();
+        int monthIndex = getPageMonthIndex(mViewPager.getCurrentItem());
+
+        if (listener == null || monthIndex == mSettledMonthIndex) {
+            return;
+        }
+
+        mSettledMonthIndex = monthIndex;
+
+        // A grid of the current month is already cached, so no object is created
+        MonthGrid monthGrid = MonthGrid.get(monthIndex);
+
+        listener.onPageSettled(EpochDay.getYearOfMonth(monthIndex), EpochDay.getMonthOfMonth(monthIndex),
+                monthGrid.getFirstDay(), monthGrid.getLastDay());
+    }
+
     private final OnClickListener onNextClickListener =
             v -> mViewPager.setCurrentItem(mViewPager.getCurrentItem() + 1);
 
@@ -312,49 +502,48 @@ public class CalendarView extends LinearLayout {
          */
         @Override
         public void onPageSelected(int position) {
-            Calendar calendar = (Calendar) mCalendarProperties.getFirstPageCalendarDate().clone();
-            calendar.add(Calendar.MONTH, position);
-
-            if (!isScrollingLimited(calendar, position)) {
-                setHeaderName(calendar, position);
+            if (mEventSourceLoader != null) {
+                mEventSourceLoader.setCurrentMonth(getPageMonthIndex(position));
             }
+
+            setHeaderName(getPageMonthIndex(position));
+            reportVisibleRange(getPageMonthIndex(position));
+
+            // Pages selected without scrolling settle immediately after the quiet period
+            schedulePageSettled();
         }
 
         @Override
         public void onPageScrollStateChanged(int state) {
-        }
-    };
+            mScrollState = state;
 
-    private boolean isScrollingLimited(Calendar calendar, int position) {
-        if (DateUtils.isMonthBefore(mCalendarProperties.getMinimumDate(), calendar)) {
-            mViewPager.setCurrentItem(position + 1);
-            return true;
-        }
+            if (state == ViewPager.SCROLL_STATE_IDLE) {
+                // The pager has settled on a page, so its range is not cancelled anymore
+                mRangePending = false;
+                movePagesAtEdge();
+            }
 
-        if (DateUtils.isMonthAfter(mCalendarProperties.getMaximumDate(), calendar)) {
-            mViewPager.setCurrentItem(position - 1);
-            return true;
+            schedulePageSettled();
         }
+    };
 
-        return false;
-    }
-
-    private void setHeaderName(Calendar calendar, int position) {
-        mCurrentMonthLabel.setText(DateUtils.getMonthAndYearDate(mContext, calendar));
-        callOnPageChangeListeners(position);
+    private void setHeaderName(int monthIndex) {
+        mCurrentMonthLabel.setText(CalendarLabels.getMonthAndYearLabel(mContext, monthIndex));
+        callOnPageChangeListeners(monthIndex);
     }
 
-    // This method calls page change listeners after swipe calendar or click arrow buttons
-    private void callOnPageChangeListeners(int position) {
-        if (position > mCurrentPage && mCalendarProperties.getOnForwardPageChangeListener() != null) {
+    // This method calls page change listeners after swipe calendar or click arrow buttons,
+    // months are compared because moved pages show the same month at a different position
+    private void callOnPageChangeListeners(int monthIndex) {
+        if (monthIndex > mCurrentMonthIndex && mCalendarProperties.getOnForwardPageChangeListener() != null) {
             mCalendarProperties.getOnForwardPageChangeListener().onChange();
         }
 
-        if (position < mCurrentPage && mCalendarProperties.getOnPreviousPageChangeListener() != null) {
+        if (monthIndex < mCurrentMonthIndex && mCalendarProperties.getOnPreviousPageChangeListener() != null) {
             mCalendarProperties.getOnPreviousPageChangeListener().onChange();
         }
 
-        mCurrentPage = position;
+        mCurrentMonthIndex = monthIndex;
     }
 
     /**
@@ -371,18 +560,7 @@ public class CalendarView extends LinearLayout {
      * @param date A Calendar object representing a date to which the calendar will be set
      */
     public void setDate(Calendar date) throws OutOfDateRangeException {
-        if (mCalendarProperties.getMinimumDate() != null && date.before(mCalendarProperties.getMinimumDate())) {
-            throw new OutOfDateRangeException(ErrorsMessages.OUT_OF_RANGE_MIN);
-        }
-
-        if (mCalendarProperties.getMaximumDate() != null && date.after(mCalendarProperties.getMaximumDate())) {
-            throw new OutOfDateRangeException(ErrorsMessages.OUT_OF_RANGE_MAX);
-        }
-
-        setUpCalendarPosition(date);
-
-        mCurrentMonthLabel.setText(DateUtils.getMonthAndYearDate(mContext, date));
-        mCalendarPageAdapter.notifyDataSetChanged();
+        edit().setDate(date).commit();
     }
 
     /**
@@ -405,24 +583,114 @@ public class CalendarView extends LinearLayout {
      * @see EventDay
      */
     public void setEvents(List<EventDay> eventDays) {
-        if (mCalendarProperties.getEventsEnabled()) {
-            mCalendarProperties.setEventDays(eventDays);
-            mCalendarPageAdapter.notifyDataSetChanged();
+        applyChanges(edit().setEvents(eventDays));
+    }
+
+    /**
+     * This method is used to set a list of events like setEvents(), but an index of the events is
+     * built on a background thread and the calendar shows previous events until it is ready.
+     * Only pages displaying changed days are refreshed. A newer call cancels a build which is
+     * still in progress.
+     *
+     * @param eventDays List of EventDay objects, the list is copied
+     * @see EventDay
+     */
+    public void setEventsAsync(List<EventDay> eventDays) {
+        if (!mCalendarProperties.getEventsEnabled()) {
+            return;
         }
+
+        releaseEventSource();
+
+        mEventDaysIndexLoader.build(eventDays, mCalendarProperties.getEventDaysIndex(), snapshot -> {
+            EventDaysIndex previousEventDays = mCalendarProperties.getEventDaysIndex();
+            mCalendarProperties.setEventDays(snapshot.getEventDays(), snapshot.getEventDaysIndex());
+
+            // Changed days are compared again if events were replaced during the build
+            DayMaskSet changedDays = previousEventDays == snapshot.getPreviousEventDaysIndex()
+                    && snapshot.getChangedDays() != null ? snapshot.getChangedDays() : previousEventDays.getChangedDays(snapshot.getEventDaysIndex());
+
+            mCalendarPageAdapter.notifyDaysChanged(changedDays);
+        });
+    }
+
+    /**
+     * This method is used to set a source of events displayed in calendar cells. Events are
+     * requested month by month on a background thread when pages are changed, only months near
+     * a current page are kept in memory. Events set by setEvents() are replaced.
+     *
+     * @param eventSource EventSource object providing events of months
+     * @see EventSource
+     */
+    public void setEventSource(EventSource eventSource) {
+        if (!mCalendarProperties.getEventsEnabled()) {
+            return;
+        }
+
+        releaseEventSource();
+        updateEvents(new ArrayList<>());
+
+        mEventSourceLoader = new EventSourceLoader(eventSource, this::updateEvents);
+        mEventSourceLoader.setCurrentMonth(getPageMonthIndex(mViewPager.getCurrentItem()));
+    }
+
+    /**
+     * This method returns a store of events which can be added, replaced and removed one by one
+     * from any thread. Cells read the store without locking and pages displaying changed days
+     * are refreshed once per frame. Events of the store are displayed after events of the same day
+     * set by setEvents(), setEventsAsync() or setEventSource(), and a day click listener receives
+     * events of both.
+     *
+     * @return EventStore object of the calendar
+     * @see EventStore
+     */
+    public EventStore getEventStore() {
+        return mCalendarProperties.getEventStore();
+    }
+
+    private void releaseEventSource() {
+        // Events which are still indexed in the background would replace newer events
+        mEventDaysIndexLoader.cancel();
+
+        if (mEventSourceLoader != null) {
+            mEventSourceLoader.release();
+            mEventSourceLoader = null;
+        }
+    }
+
+    private void updateEvents(List<EventDay> eventDays) {
+        EventDaysIndex previousEventDays = mCalendarProperties.getEventDaysIndex();
+        mCalendarProperties.setEventDays(eventDays);
+
+        mCalendarPageAdapter.notifyDaysChanged(
+                previousEventDays.getChangedDays(mCalendarProperties.getEventDaysIndex()));
+    }
+
+    private int getPageMonthIndex(int position) {
+        return mCalendarProperties.getFirstPageMonthIndex() + position;
+    }
+
+    /**
+     * This method sets an image displayed in day cells until event images set as file or content
+     * URIs are decoded in the background
+     *
+     * @param placeholder A drawable resource of the placeholder or 0 to leave cells empty
+     */
+    public void setEventImagePlaceholder(@DrawableRes int placeholder) {
+        mCalendarProperties.setEventImagePlaceholder(placeholder);
     }
 
     /**
      * @return List of Calendar object representing a selected dates
      */
     public List<Calendar> getSelectedDates() {
+        // Selected days are already kept in chronological order
         return Stream.of(mCalendarPageAdapter.getSelectedDays())
-                .map(SelectedDay::getCalendar)
-                .sortBy(calendar -> calendar).toList();
+                .map(SelectedDay::getCalendar).toList();
     }
 
     public void setSelectedDates(List<Calendar> selectedDates) {
-        mCalendarProperties.setSelectedDays(selectedDates);
-        mCalendarPageAdapter.notifyDataSetChanged();
+        applyChanges(edit().setSelectedDates(selectedDates));
     }
 
     /**
@@ -445,10 +713,7 @@ public class CalendarView extends LinearLayout {
      * @return Calendar object representing a date of current calendar page
      */
     public Calendar getCurrentPageDate() {
-        Calendar calendar = (Calendar) mCalendarProperties.getFirstPageCalendarDate().clone();
-        calendar.set(Calendar.DAY_OF_MONTH, 1);
-        calendar.add(Calendar.MONTH, mViewPager.getCurrentItem());
-        return calendar;
+        return EpochDay.toCalendar(EpochDay.ofMonth(getPageMonthIndex(mViewPager.getCurrentItem()), 1));
     }
 
     /**
@@ -457,7 +722,7 @@ public class CalendarView extends LinearLayout {
      * @param calendar Calendar object representing a minimum date
      */
     public void setMinimumDate(Calendar calendar) {
-        mCalendarProperties.setMinimumDate(calendar);
+        applyChanges(edit().setMinimumDate(calendar));
     }
 
     /**
@@ -466,23 +731,157 @@ public class CalendarView extends LinearLayout {
      * @param calendar Calendar object representing a maximum date
      */
     public void setMaximumDate(Calendar calendar) {
-        mCalendarProperties.setMaximumDate(calendar);
+        applyChanges(edit().setMaximumDate(calendar));
     }
 
     /**
      * This method is used to return to current month page
      */
     public void showCurrentMonthPage() {
-        mViewPager.setCurrentItem(mViewPager.getCurrentItem()
-                - DateUtils.getMonthsBetweenDates(DateUtils.getCalendar(), getCurrentPageDate()), true);
+        int position = EpochDay.getMonthIndex(EpochDay.today()) - mCalendarProperties.getFirstPageMonthIndex();
+
+        if (position < 0 || position >= mCalendarProperties.getPagesCount()) {
+            setUpPages(EpochDay.getMonthIndex(EpochDay.today()));
+        } else {
+            mViewPager.setCurrentItem(position, true);
+        }
     }
 
     public void setDisabledDays(List<Calendar> disabledDays) {
-        mCalendarProperties.setDisabledDays(disabledDays);
+        applyChanges(edit().setDisabledDays(disabledDays));
     }
 
     public void setHighlightedDays(List<Calendar> highlightedDays) {
-        mCalendarProperties.setHighlightedDays(highlightedDays);
+        applyChanges(edit().setHighlightedDays(highlightedDays));
+    }
+
+    /**
+     * This method sets disabled days stored as month bitmasks, it lets to disable a lot of days
+     * (e.g. weekends of a few years) without creating Calendar objects
+     *
+     * @param disabledDays DayMaskSet object containing disabled days
+     * @see DayMaskSet
+     */
+    public void setDisabledDays(DayMaskSet disabledDays) {
+        applyChanges(edit().setDisabledDays(disabledDays));
+    }
+
+    /**
+     * @param highlightedDays DayMaskSet object containing highlighted days
+     * @see DayMaskSet
+     */
+    public void setHighlightedDays(DayMaskSet highlightedDays) {
+        applyChanges(edit().setHighlightedDays(highlightedDays));
+    }
+
+    /**
+     * This method returns an editor which collects changes of events, disabled, highlighted and
+     * selected days, a current date and minimum and maximum dates. The changes are applied
+     * together by CalendarEditor.commit(), which refreshes only pages displaying changed days.
+     *
+     * @return A new CalendarEditor object of the calendar
+     * @see CalendarEditor
+     */
+    public CalendarEditor edit() {
+        return new CalendarEditor(this);
+    }
+
+    void commit(CalendarEditor editor) throws OutOfDateRangeException {
+        Calendar date = editor.getDate();
+
+        if (date != null) {
+            Calendar minimumDate = editor.isMinimumDateChanged()
+                    ? editor.getMinimumDate() : mCalendarProperties.getMinimumDate();
+            Calendar maximumDate = editor.isMaximumDateChanged()
+                    ? editor.getMaximumDate() : mCalendarProperties.getMaximumDate();
+
+            // Nothing is changed if the date is out of range
+            if (minimumDate != null && date.before(minimumDate)) {
+                throw new OutOfDateRangeException(ErrorsMessages.OUT_OF_RANGE_MIN);
+            }
+
+            if (maximumDate != null && date.after(maximumDate)) {
+                throw new OutOfDateRangeException(ErrorsMessages.OUT_OF_RANGE_MAX);
+            }
+        }
+
+        applyChanges(editor);
+    }
+
+    // Applies changes of the editor, a date of the editor has to be already checked
+    private void applyChanges(CalendarEditor editor) {
+        DayMaskSet previousSelectedDays = mCalendarPageAdapter.getSelectedDays().getDays();
+        DayMaskSet changedDays = new DayMaskSet();
+        boolean pagesChanged = false;
+
+        // Selected days are set first, so disabled days are removed from them
+        if (editor.getSelectedDates() != null) {
+            mCalendarProperties.setSelectedDays(editor.getSelectedDates());
+        }
+
+        if (editor.isEventDaysChanged() && mCalendarProperties.getEventsEnabled()) {
+            releaseEventSource();
+
+            EventDaysIndex previousEventDays = mCalendarProperties.getEventDaysIndex();
+            mCalendarProperties.setEventDays(editor.getEventDays());
+            changedDays.addAll(previousEventDays.getChangedDays(mCalendarProperties.getEventDaysIndex()));
+        }
+
+        // A set changed by a caller and passed again can't be compared with itself
+        if (editor.getDisabledDays() != null) {
+            pagesChanged = editor.getDisabledDays() == mCalendarProperties.getDisabledDays();
+            changedDays.addAll(mCalendarProperties.getDisabledDays().getChangedDays(editor.getDisabledDays()));
+            mCalendarProperties.setDisabledDays(editor.getDisabledDays());
+        }
+
+        if (editor.getHighlightedDays() != null) {
+            pagesChanged |= editor.getHighlightedDays() == mCalendarProperties.getHighlightedDays();
+            changedDays.addAll(mCalendarProperties.getHighlightedDays().getChangedDays(editor.getHighlightedDays()));
+            mCalendarProperties.setHighlightedDays(editor.getHighlightedDays());
+        }
+
+        if (editor.isMinimumDateChanged()) {
+            mCalendarProperties.setMinimumDate(editor.getMinimumDate());
+        }
+
+        if (editor.isMaximumDateChanged()) {
+            mCalendarProperties.setMaximumDate(editor.getMaximumDate());
+        }
+
+        int monthIndex = getPageMonthIndex(mViewPager.getCurrentItem());
+        Calendar date = editor.getDate();
+
+        if (date != null) {
+            DateUtils.setMidnight(date);
+
+            if (mCalendarProperties.getCalendarType() == CalendarView.ONE_DAY_PICKER) {
+                mCalendarProperties.setSelectedDay(date);
+            }
+
+            monthIndex = EpochDay.getMonthIndex(date);
+        }
+
+        changedDays.addAll(previousSelectedDays.getChangedDays(mCalendarPageAdapter.getSelectedDays().getDays()));
+
+        int position = monthIndex - mCalendarProperties.getFirstPageMonthIndex();
+
+        // New bounds or a date out of current pages need different months of all pages
+        if (editor.isMinimumDateChanged() || editor.isMaximumDateChanged()
+                || position < 0 || position >= mCalendarProperties.getPagesCount()) {
+            setUpPages(monthIndex);
+            return;
+        }
+
+        if (pagesChanged) {
+            mCalendarPageAdapter.notifyPagesChanged();
+        } else {
+            mCalendarPageAdapter.notifyDaysChanged(changedDays);
+        }
+
+        // A date can be years away, so the calendar jumps to it like setUpPages() does
+        if (date != null) {
+            mViewPager.setCurrentItem(position, false);
+        }
     }
 
     public void setSwipeEnabled(boolean swipeEnabled) {
@@ -12,7 +12,7 @@ import android.widget.FrameLayout;
 import com.annimon.stream.Optional;
 import com.android.calendarview.exceptions.OutOfDateRangeException;
 import com.android.calendarview.utils.CalendarProperties;
-import com.android.calendarview.utils.DateUtils;
+import com.android.calendarview.utils.EpochDay;
 
 /**
  * This class is responsible for creating DatePicker dialog.
@@ -97,8 +97,10 @@ public class DatePicker {
     }
 
     private void setTodayButtonVisibility() {
-        if (DateUtils.isMonthAfter(mCalendarProperties.getMaximumDate(), DateUtils.getCalendar())
-                || DateUtils.isMonthBefore(mCalendarProperties.getMinimumDate(), DateUtils.getCalendar())) {
+        int monthIndex = EpochDay.getMonthIndex(EpochDay.today());
+
+        if (monthIndex > mCalendarProperties.getMaximumMonthIndex()
+                || monthIndex < mCalendarProperties.getMinimumMonthIndex()) {
             mTodayButton.setVisibility(View.GONE);
         }
     }
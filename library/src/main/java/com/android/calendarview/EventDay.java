@@ -1,6 +1,7 @@
 package com.android.calendarview;
 
 import android.graphics.drawable.Drawable;
+import android.net.Uri;
 
 import androidx.annotation.DrawableRes;
 import androidx.annotation.RestrictTo;
@@ -8,6 +9,7 @@ import androidx.annotation.RestrictTo;
 
 import com.android.calendarview.utils.DateUtils;
 
+import java.io.File;
 import java.util.Calendar;
 
 public class EventDay {
@@ -69,6 +71,49 @@ public class EventDay {
     }
 
 
+    /**
+     * @param day   Calendar object which represents a date of the event
+     * @param image A file or content URI of an image which will be displayed in a day cell,
+     *              the image is decoded in the background
+     */
+    public EventDay(Calendar day, Uri image) {
+        DateUtils.setMidnight(day);
+        mDay = day;
+        mDrawable = image;
+    }
+
+    /**
+     * @param day        Calendar object which represents a date of the event
+     * @param image      A file or content URI of an image which will be displayed in a day cell,
+     *                   the image is decoded in the background
+     * @param labelColor Color which will be displayed as label text color a day cell
+     */
+    public EventDay(Calendar day, Uri image, int labelColor) {
+        DateUtils.setMidnight(day);
+        mDay = day;
+        mDrawable = image;
+        mLabelColor = labelColor;
+    }
+
+    /**
+     * @param day   Calendar object which represents a date of the event
+     * @param image A file of an image which will be displayed in a day cell, the image is decoded
+     *              in the background
+     */
+    public EventDay(Calendar day, File image) {
+        this(day, Uri.fromFile(image));
+    }
+
+    /**
+     * @param day        Calendar object which represents a date of the event
+     * @param image      A file of an image which will be displayed in a day cell, the image is
+     *                   decoded in the background
+     * @param labelColor Color which will be displayed as label text color a day cell
+     */
+    public EventDay(Calendar day, File image, int labelColor) {
+        this(day, Uri.fromFile(image), labelColor);
+    }
+
     /**
      * @return An image resource which will be displayed in the day row
      */
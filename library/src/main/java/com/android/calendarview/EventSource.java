@@ -0,0 +1,26 @@
+package com.android.calendarview;
+
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * This interface is used to provide events of months displayed by the calendar, so events don't
+ * have to be loaded up front. The calendar asks for a visible month and months next to it when
+ * pages are changed and keeps loaded months only near a current page.
+ * <p>
+ * The method is called on a background thread, one call at a time. A thread of a request for
+ * a month which is not needed anymore is interrupted.
+ * <p>
+ *
+ * @see CalendarView#setEventSource(EventSource)
+ */
+
+public interface EventSource {
+
+    /**
+     * @param firstDay Calendar object representing a first day of a month
+     * @param lastDay  Calendar object representing a last day of a month
+     * @return List of EventDay objects of days between firstDay and lastDay (inclusive)
+     */
+    List<EventDay> getEvents(Calendar firstDay, Calendar lastDay);
+}
@@ -5,144 +5,192 @@ import android.graphics.Typeface;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
-import android.widget.ArrayAdapter;
+import android.widget.BaseAdapter;
 import android.widget.ImageView;
 import android.widget.TextView;
 
-import androidx.annotation.NonNull;
-
 import com.android.calendarview.CalendarView;
 import com.android.calendarview.R;
 import com.android.calendarview.utils.CalendarProperties;
-import com.android.calendarview.utils.DateUtils;
+import com.android.calendarview.utils.CellBackgrounds;
 import com.android.calendarview.utils.DayColorsUtils;
+import com.android.calendarview.utils.DayEvents;
+import com.android.calendarview.utils.EpochDay;
 import com.android.calendarview.utils.EventDayUtils;
 import com.android.calendarview.utils.ImageUtils;
-import com.android.calendarview.utils.SelectedDay;
-import com.annimon.stream.Stream;
-
-import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.Date;
-import java.util.GregorianCalendar;
+import com.android.calendarview.utils.MonthGrid;
 
 /**
  * This class is responsible for loading a one day cell.
  * <p>
+ * Days are read from a shared MonthGrid and an item id of a cell is its epoch day.
+ * <p>
  */
 
-class CalendarDayAdapter extends ArrayAdapter<Date> {
+class CalendarDayAdapter extends BaseAdapter {
     private CalendarPageAdapter mCalendarPageAdapter;
+    private Context mContext;
     private LayoutInflater mLayoutInflater;
-    private int mPageMonth;
-    private Calendar mToday = DateUtils.getCalendar();
+    private MonthGrid mMonthGrid;
+    private int mToday = EpochDay.today();
+    private int mIconMaxSize;
 
     private CalendarProperties mCalendarProperties;
 
-    CalendarDayAdapter(CalendarPageAdapter calendarPageAdapter, Context context, CalendarProperties calendarProperties, ArrayList<Date> dates, int pageMonth) {
-        super(context, calendarProperties.getItemLayoutResource(), dates);
+    CalendarDayAdapter(CalendarPageAdapter calendarPageAdapter, Context context, CalendarProperties calendarProperties, MonthGrid monthGrid) {
         mCalendarPageAdapter = calendarPageAdapter;
         mCalendarProperties = calendarProperties;
-        mPageMonth = pageMonth < 0 ? 11 : pageMonth;
+        mMonthGrid = monthGrid;
+        mContext = context;
         mLayoutInflater = LayoutInflater.from(context);
+        mIconMaxSize = context.getResources().getDimensionPixelSize(R.dimen.day_cell_size_events_enabled);
+    }
+
+    void setMonthGrid(MonthGrid monthGrid) {
+        mMonthGrid = monthGrid;
+        mToday = EpochDay.today();
+    }
+
+    /**
+     * Adapters of recycled pages are never created again, so today is checked whenever days are
+     * rebound, e.g. after midnight
+     */
+    @Override
+    public void notifyDataSetChanged() {
+        mToday = EpochDay.today();
+        super.notifyDataSetChanged();
+    }
+
+    @Override
+    public int getCount() {
+        return MonthGrid.CELLS_COUNT;
+    }
+
+    @Override
+    public Object getItem(int position) {
+        return mMonthGrid.getDay(position);
     }
 
-    @NonNull
     @Override
-    public View getView(int position, View view, @NonNull ViewGroup parent) {
+    public long getItemId(int position) {
+        return mMonthGrid.getDay(position);
+    }
+
+    @Override
+    public View getView(int position, View view, ViewGroup parent) {
+        DayViewHolder holder;
+
         if (view == null) {
-            view = mLayoutInflater.inflate(mCalendarProperties.getItemLayoutResource(), parent, false);
+            view = inflateDayView(parent);
+            holder = new DayViewHolder(view);
+            view.setTag(holder);
+        } else {
+            holder = (DayViewHolder) view.getTag();
         }
 
-        TextView dayLabel = view.findViewById(R.id.dayLabel);
-        ImageView dayIcon = view.findViewById(R.id.dayIcon);
-        View dayCell = view.findViewById(R.id.dayCell);
-
-        Calendar day = new GregorianCalendar();
-        day.setTime(getItem(position));
+        int day = mMonthGrid.getDay(position);
 
         // Loading an image of the event
-        if (dayIcon != null) {
-            loadIcon(dayIcon, day);
+        if (holder.mDayIcon != null) {
+            loadIcon(holder.mDayIcon, day);
         }
 
-        setLabelColors(dayLabel, dayCell, day);
+        setLabelColors(holder.mDayLabel, holder.mDayCell, holder.mCellBackgrounds, day);
 
-        dayLabel.setText(String.valueOf(day.get(Calendar.DAY_OF_MONTH)));
+        holder.mDayLabel.setText(mMonthGrid.getDayLabel(position));
         return view;
     }
 
-    private void setLabelColors(TextView dayLabel, View dayCell, Calendar day) {
+    private View inflateDayView(ViewGroup parent) {
+        int dayLayout = mCalendarProperties.getItemLayoutResource();
+
+        // Cells can be already inflated in the background together with their page
+        View view = CalendarPagePool.obtainDayView(mContext, dayLayout);
+        return view != null ? view : mLayoutInflater.inflate(dayLayout, parent, false);
+    }
+
+    private void setLabelColors(TextView dayLabel, View dayCell, CellBackgrounds cellBackgrounds, int day) {
         // Setting not current month day color
         if (!isCurrentMonthDay(day)) {
-            DayColorsUtils.setDayColors(dayLabel, dayCell, mCalendarProperties.getAnotherMonthsDaysLabelsColor(), Typeface.NORMAL, R.drawable.background_transparent);
+            DayColorsUtils.setDayColors(dayLabel, dayCell, mCalendarProperties.getPalette().getAnotherMonthsDaysLabelsColor(), Typeface.NORMAL, cellBackgrounds.getTransparent(mCalendarProperties.getDayBackgrounds()));
             return;
         }
 
-        // Setting view for all SelectedDays
+        // Selected days don't keep cell views, a recycled cell can show another date later
         if (isSelectedDay(day)) {
-            Stream.of(mCalendarPageAdapter.getSelectedDays())
-                    .filter(selectedDay -> selectedDay.getCalendar().equals(day))
-                    .findFirst().ifPresent(selectedDay -> {
-                selectedDay.setView(dayLabel);
-                selectedDay.setViewCell(dayCell);
-            });
-
-            DayColorsUtils.setSelectedDayColors(dayLabel, dayCell, mCalendarProperties);
+            DayColorsUtils.setSelectedDayColors(dayLabel, dayCell, cellBackgrounds, mCalendarProperties);
             return;
         }
 
         // Setting disabled days color
         if (!isActiveDay(day)) {
-            DayColorsUtils.setDayColors(dayLabel, dayCell, mCalendarProperties.getDisabledDaysLabelsColor(), Typeface.NORMAL, R.drawable.background_transparent);
+            DayColorsUtils.setDayColors(dayLabel, dayCell, mCalendarProperties.getPalette().getDisabledDaysLabelsColor(), Typeface.NORMAL, cellBackgrounds.getTransparent(mCalendarProperties.getDayBackgrounds()));
             return;
         }
 
         // Setting custom label color for event day
         if (isEventDayWithLabelColor(day)) {
-            DayColorsUtils.setCurrentMonthDayColors(day, mToday, dayLabel, dayCell, mCalendarProperties);
+            DayColorsUtils.setCurrentMonthDayColors(day, mToday, dayLabel, dayCell, cellBackgrounds, mCalendarProperties);
             return;
         }
 
         // Setting current month day color
-        DayColorsUtils.setCurrentMonthDayColors(day, mToday, dayLabel, dayCell, mCalendarProperties);
+        DayColorsUtils.setCurrentMonthDayColors(day, mToday, dayLabel, dayCell, cellBackgrounds, mCalendarProperties);
     }
 
-    private boolean isSelectedDay(Calendar day) {
-        return mCalendarProperties.getCalendarType() != CalendarView.CLASSIC && day.get(Calendar.MONTH) == mPageMonth
-                && mCalendarPageAdapter.getSelectedDays().contains(new SelectedDay(day));
+    private boolean isSelectedDay(int day) {
+        return mCalendarProperties.getCalendarType() != CalendarView.CLASSIC && mMonthGrid.isCurrentMonthDay(day)
+                && mCalendarPageAdapter.getSelectedDays().contains(day);
     }
 
-    private boolean isEventDayWithLabelColor(Calendar day) {
+    private boolean isEventDayWithLabelColor(int day) {
         return EventDayUtils.isEventDayWithLabelColor(day, mCalendarProperties);
     }
 
-    private boolean isCurrentMonthDay(Calendar day) {
-        return day.get(Calendar.MONTH) == mPageMonth &&
-                !((mCalendarProperties.getMinimumDate() != null && day.before(mCalendarProperties.getMinimumDate()))
-                        || (mCalendarProperties.getMaximumDate() != null && day.after(mCalendarProperties.getMaximumDate())));
+    private boolean isCurrentMonthDay(int day) {
+        return mMonthGrid.isCurrentMonthDay(day) && mCalendarProperties.isBetweenMinAndMax(day);
     }
 
-    private boolean isActiveDay(Calendar day) {
+    private boolean isActiveDay(int day) {
         return !mCalendarProperties.getDisabledDays().contains(day);
     }
 
-    private void loadIcon(ImageView dayIcon, Calendar day) {
-        if (mCalendarProperties.getEventDays() == null || !mCalendarProperties.getEventsEnabled()) {
+    private void loadIcon(ImageView dayIcon, int day) {
+        if (!mCalendarProperties.hasEventDays() || !mCalendarProperties.getEventsEnabled()) {
             dayIcon.setVisibility(View.GONE);
             return;
         }
 
-        Stream.of(mCalendarProperties.getEventDays()).filter(eventDate ->
-                eventDate.getCalendar().equals(day)).findFirst().executeIfPresent(eventDay -> {
+        DayEvents dayEvents = mCalendarProperties.getDayEvents(day);
+
+        // A recycled cell can still show an image of a previously bound day
+        if (dayEvents == null || dayEvents.getIndicatorsCount() == 0) {
+            ImageUtils.clearImage(dayIcon);
+            return;
+        }
 
-            ImageUtils.loadImage(dayIcon, eventDay.getImageDrawable());
+        // A cell has one image view, so it shows the first image of the day
+        ImageUtils.loadImage(dayIcon, dayEvents.getIndicator(0), mIconMaxSize,
+                mCalendarProperties.getEventImagePlaceholder());
 
-            // If a day doesn't belong to current month then image is transparent
-            if (!isCurrentMonthDay(day) || !isActiveDay(day)) {
-                dayIcon.setAlpha(0.12f);
-            }
+        // If a day doesn't belong to current month then image is transparent
+        dayIcon.setAlpha(!isCurrentMonthDay(day) || !isActiveDay(day) ? 0.12f : 1f);
+    }
 
-        });
+    /**
+     * This class keeps views of one day cell, so a recycled cell is bound without searching
+     * its view tree
+     */
+    private static class DayViewHolder {
+        private final TextView mDayLabel;
+        private final ImageView mDayIcon;
+        private final View mDayCell;
+        private final CellBackgrounds mCellBackgrounds = new CellBackgrounds();
+
+        DayViewHolder(View view) {
+            mDayLabel = view.findViewById(R.id.dayLabel);
+            mDayIcon = view.findViewById(R.id.dayIcon);
+            mDayCell = view.findViewById(R.id.dayCell);
+        }
     }
 }
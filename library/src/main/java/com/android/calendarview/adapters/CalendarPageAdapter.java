@@ -1,6 +1,7 @@
 package com.android.calendarview.adapters;
 
 import android.content.Context;
+import android.util.SparseArray;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -9,17 +10,18 @@ import androidx.viewpager.widget.PagerAdapter;
 
 import com.android.calendarview.R;
 import com.android.calendarview.extensions.CalendarGridView;
+import com.android.calendarview.extensions.CalendarMonthView;
+import com.android.calendarview.extensions.CalendarPage;
+import com.android.calendarview.extensions.CalendarPageFrame;
 import com.android.calendarview.listeners.DayRowClickListener;
 import com.android.calendarview.utils.CalendarProperties;
+import com.android.calendarview.utils.DayMaskSet;
+import com.android.calendarview.utils.MonthGrid;
 import com.android.calendarview.utils.SelectedDay;
+import com.android.calendarview.utils.SelectedDays;
 
-import java.util.ArrayList;
-import java.util.Calendar;
-import java.util.Date;
-import java.util.List;
-
-import static com.android.calendarview.utils.CalendarProperties.CALENDAR_SIZE;
-
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 /**
  * This class is responsible for loading a calendar page content.
@@ -28,27 +30,44 @@ import static com.android.calendarview.utils.CalendarProperties.CALENDAR_SIZE;
 
 public class CalendarPageAdapter extends PagerAdapter {
 
+    /**
+     * A maximum number of detached pages kept for reuse, ViewPager keeps three pages attached
+     * with a default offscreen limit, so a swipe always detaches at most one page
+     */
+    private static final int RECYCLED_PAGES_POOL_SIZE = 3;
+
     private Context mContext;
-    private CalendarGridView mCalendarGridView;
 
     private CalendarProperties mCalendarProperties;
+    private DayRowClickListener mDayRowClickListener;
 
-    private int mPageMonth;
+    // Pages attached to the ViewPager, keyed by their positions
+    private SparseArray<CalendarPage> mPages = new SparseArray<>();
+
+    // Detached pages which are rebound to new months instead of inflating new ones
+    private Deque<View> mRecycledPages = new ArrayDeque<>(RECYCLED_PAGES_POOL_SIZE);
+
+    private boolean mPagesRangeChanged;
 
     public CalendarPageAdapter(Context context, CalendarProperties calendarProperties) {
         mContext = context;
         mCalendarProperties = calendarProperties;
+        mDayRowClickListener = new DayRowClickListener(this, mCalendarProperties);
         informDatePicker();
     }
 
     @Override
     public int getCount() {
-        return CALENDAR_SIZE;
+        return mCalendarProperties.getPagesCount();
     }
 
+    /**
+     * Pages are recreated by notifyDataSetChanged() only when a number of pages has changed,
+     * other changed pages are rebound in place using notifyDaysChanged() or notifyPagesChanged()
+     */
     @Override
     public int getItemPosition(Object object) {
-        return POSITION_NONE;
+        return mPagesRangeChanged ? POSITION_NONE : POSITION_UNCHANGED;
     }
 
     @Override
@@ -58,35 +77,140 @@ public class CalendarPageAdapter extends PagerAdapter {
 
     @Override
     public Object instantiateItem(ViewGroup container, int position) {
-        LayoutInflater inflater = (LayoutInflater) mContext.getSystemService(Context.LAYOUT_INFLATER_SERVICE);
-        mCalendarGridView = (CalendarGridView) inflater.inflate(R.layout.calendar_view_grid, null);
+        View page = mRecycledPages.poll();
+
+        if (page == null) {
+            page = createPage();
+        }
+
+        loadMonth((CalendarPage) page, position);
+
+        mPages.put(position, (CalendarPage) page);
+        container.addView(page);
+        return page;
+    }
+
+    private View createPage() {
+        if (mCalendarProperties.getMonthViewEnabled()) {
+            return createMonthView();
+        }
+
+        if (mCalendarProperties.getAsyncInflationEnabled()) {
+            return createPageFrame();
+        }
+
+        return createGridView();
+    }
+
+    private View createGridView() {
+        // A page can be already inflated in the background by CalendarView.warmUpPages()
+        CalendarGridView calendarGridView = CalendarPagePool.obtainPage(mContext,
+                mCalendarProperties.getItemLayoutResource());
+
+        if (calendarGridView == null) {
+            LayoutInflater inflater = (LayoutInflater) mContext.getSystemService(Context.LAYOUT_INFLATER_SERVICE);
+            calendarGridView = (CalendarGridView) inflater.inflate(R.layout.calendar_view_grid, null);
+        }
+
+        calendarGridView.setOnItemClickListener(mDayRowClickListener);
+        return calendarGridView;
+    }
+
+    private View createPageFrame() {
+        CalendarPageFrame calendarPageFrame = new CalendarPageFrame(mContext);
+
+        // The frame is attached immediately and its GridView is added when it is inflated
+        CalendarPagePool.requestPage(mContext, mCalendarProperties.getItemLayoutResource(), calendarGridView -> {
+            calendarGridView.setOnItemClickListener(mDayRowClickListener);
+            calendarPageFrame.setCalendarGridView(calendarGridView);
+            loadGridMonth(calendarGridView, calendarPageFrame.getMonthGrid());
+        });
+
+        return calendarPageFrame;
+    }
+
+    private View createMonthView() {
+        CalendarMonthView calendarMonthView = new CalendarMonthView(mContext, mCalendarProperties);
+
+        calendarMonthView.setOnDayCellClickListener(mDayRowClickListener);
+        return calendarMonthView;
+    }
+
+    /**
+     * This method rebinds in place all attached pages which display any of the days
+     *
+     * @param days A set of days which have changed
+     */
+    public void notifyDaysChanged(DayMaskSet days) {
+        if (days.isEmpty()) {
+            return;
+        }
 
-        loadMonth(position);
+        for (int index = 0; index < mPages.size(); index++) {
+            CalendarPage calendarPage = mPages.valueAt(index);
+            MonthGrid monthGrid = calendarPage.getMonthGrid();
 
-        mCalendarGridView.setOnItemClickListener(new DayRowClickListener(this,
-                mCalendarProperties, mPageMonth));
+            if (days.count(monthGrid.getFirstDay(), monthGrid.getLastDay()) > 0) {
+                calendarPage.invalidateDays();
+            }
+        }
+    }
 
-        container.addView(mCalendarGridView);
-        return mCalendarGridView;
+    /**
+     * This method rebinds in place all attached pages, e.g. when pages positions point to
+     * different months
+     */
+    public void notifyPagesChanged() {
+        for (int index = 0; index < mPages.size(); index++) {
+            loadMonth(mPages.valueAt(index), mPages.keyAt(index));
+        }
+    }
+
+    /**
+     * This method replaces all attached pages when months or a number of pages have changed,
+     * replaced pages are recycled, so new pages are not inflated
+     */
+    public void notifyPagesRangeChanged() {
+        mPagesRangeChanged = true;
+        notifyDataSetChanged();
+        mPagesRangeChanged = false;
     }
 
     public void addSelectedDay(SelectedDay selectedDay) {
-        if (!mCalendarProperties.getSelectedDays().contains(selectedDay)) {
-            mCalendarProperties.getSelectedDays().add(selectedDay);
+        SelectedDays selectedDays = mCalendarProperties.getSelectedDays();
+
+        if (!selectedDays.contains(selectedDay.getEpochDay())) {
+            selectedDays.add(selectedDay);
             informDatePicker();
             return;
         }
 
-        mCalendarProperties.getSelectedDays().remove(selectedDay);
+        selectedDays.remove(selectedDay.getEpochDay());
+        informDatePicker();
+    }
+
+    /**
+     * This method selects all enabled days between two selected days
+     *
+     * @param firstSelectedDay A day which was selected first
+     * @param lastSelectedDay  A day which closes the range
+     */
+    public void selectRange(SelectedDay firstSelectedDay, SelectedDay lastSelectedDay) {
+        SelectedDays selectedDays = mCalendarProperties.getSelectedDays();
+
+        selectedDays.setRange(firstSelectedDay.getEpochDay(), lastSelectedDay.getEpochDay(),
+                mCalendarProperties.getDisabledDays());
+        selectedDays.add(lastSelectedDay);
+
         informDatePicker();
     }
 
-    public List<SelectedDay> getSelectedDays() {
+    public SelectedDays getSelectedDays() {
         return mCalendarProperties.getSelectedDays();
     }
 
     public SelectedDay getSelectedDay() {
-        return mCalendarProperties.getSelectedDays().get(0);
+        return mCalendarProperties.getSelectedDays().getFirst();
     }
 
     public void setSelectedDay(SelectedDay selectedDay) {
@@ -104,52 +228,47 @@ public class CalendarPageAdapter extends PagerAdapter {
     }
 
     /**
-     * This method fill calendar GridView with days
+     * This method fill calendar page with days, a recycled page reuses its adapter and views
      *
-     * @param position Position of current page in ViewPager
+     * @param calendarPage A page which will be filled
+     * @param position     Position of the page in ViewPager
      */
-    private void loadMonth(int position) {
-        ArrayList<Date> days = new ArrayList<>();
-
-        // Get Calendar object instance
-        Calendar calendar = (Calendar) mCalendarProperties.getFirstPageCalendarDate().clone();
-
-        // Add months to Calendar (a number of months depends on ViewPager position)
-        calendar.add(Calendar.MONTH, position);
-
-        // Set day of month as 1
-        calendar.set(Calendar.DAY_OF_MONTH, 1);
-
-        calendar.setFirstDayOfWeek(Calendar.MONDAY);
-
-        // Get a number of the first day of the week
-        int dayOfWeek = calendar.get(Calendar.DAY_OF_WEEK);
-
-        // Count when month is beginning
-        int firstDayOfWeek = calendar.getFirstDayOfWeek();
-        int monthBeginningCell = (dayOfWeek < firstDayOfWeek ? 7 : 0) + dayOfWeek - firstDayOfWeek;
+    private void loadMonth(CalendarPage calendarPage, int position) {
+        // Get a month index of the page (a number of months depends on ViewPager position)
+        int monthIndex = mCalendarProperties.getFirstPageMonthIndex() + position;
+
+        // Get a shared layout of the page, it is computed once per month
+        MonthGrid monthGrid = MonthGrid.get(monthIndex);
+        calendarPage.setMonthGrid(monthGrid);
+
+        if (calendarPage instanceof CalendarGridView) {
+            loadGridMonth((CalendarGridView) calendarPage, monthGrid);
+        } else if (calendarPage instanceof CalendarPageFrame
+                && ((CalendarPageFrame) calendarPage).getCalendarGridView() != null) {
+            loadGridMonth(((CalendarPageFrame) calendarPage).getCalendarGridView(), monthGrid);
+        }
+    }
 
-        // Subtract a number of beginning days, it will let to load a part of a previous month
-        calendar.add(Calendar.DAY_OF_MONTH, -monthBeginningCell);
+    private void loadGridMonth(CalendarGridView calendarGridView, MonthGrid monthGrid) {
+        CalendarDayAdapter calendarDayAdapter = (CalendarDayAdapter) calendarGridView.getAdapter();
 
-        /*
-        Get all days of one page (42 is a number of all possible cells in one page
-        (a part of previous month, current month and a part of next month))
-         */
-        while (days.size() < 42) {
-            days.add(calendar.getTime());
-            calendar.add(Calendar.DAY_OF_MONTH, 1);
+        if (calendarDayAdapter == null) {
+            calendarGridView.setAdapter(new CalendarDayAdapter(this, mContext, mCalendarProperties, monthGrid));
+            return;
         }
 
-        mPageMonth = calendar.get(Calendar.MONTH) - 1;
-        CalendarDayAdapter calendarDayAdapter = new CalendarDayAdapter(this, mContext,
-                mCalendarProperties, days, mPageMonth);
-
-        mCalendarGridView.setAdapter(calendarDayAdapter);
+        calendarDayAdapter.setMonthGrid(monthGrid);
+        calendarDayAdapter.notifyDataSetChanged();
     }
 
     @Override
     public void destroyItem(ViewGroup container, int position, Object object) {
+        mPages.remove(position);
         container.removeView((View) object);
+
+        // A recycled grid keeps its adapter and cell views, so it is bound again without inflating
+        if (mRecycledPages.size() < RECYCLED_PAGES_POOL_SIZE) {
+            mRecycledPages.push((View) object);
+        }
     }
 }
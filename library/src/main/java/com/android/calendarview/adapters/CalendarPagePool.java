@@ -0,0 +1,291 @@
+package com.android.calendarview.adapters;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.LayoutInflater;
+import android.view.View;
+
+import androidx.annotation.LayoutRes;
+import androidx.annotation.MainThread;
+
+import com.android.calendarview.R;
+import com.android.calendarview.extensions.CalendarGridView;
+import com.android.calendarview.utils.MonthGrid;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * This class keeps calendar pages and day cells inflated on a background thread, so calendars
+ * can take them instead of inflating views on the main thread.
+ * <p>
+ * Views are inflated with a context of a calendar, so the pool keeps views of one context only.
+ * It is cleared when an activity of the context is destroyed, not when a single calendar is
+ * detached, because other calendars of the context may still use it. The context itself is
+ * referenced weakly.
+ * <p>
+ */
+
+public final class CalendarPagePool {
+
+    /**
+     * ViewPager keeps three pages attached with a default offscreen limit
+     */
+    private static final int MAX_PAGES = 3;
+    private static final int MAX_DAY_VIEWS = MAX_PAGES * MonthGrid.CELLS_COUNT;
+
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+    private static ExecutorService sExecutor;
+
+    private static WeakReference<Context> sContextReference = new WeakReference<>(null);
+    private static int sDayLayout;
+    private static int sPendingPages;
+
+    private static final Deque<View> sPages = new ArrayDeque<>();
+    private static final Deque<View> sDayViews = new ArrayDeque<>();
+
+    private static Application.ActivityLifecycleCallbacks sLifecycleCallbacks;
+
+    /**
+     * This interface is used to pass a page inflated in the background to a calendar
+     */
+    interface OnPageInflatedListener {
+        void onPageInflated(CalendarGridView calendarGridView);
+    }
+
+    /**
+     * This method starts inflating pages and day cells of one calendar in the background
+     *
+     * @param context   A context of the calendar which will use the pages
+     * @param dayLayout A layout of a day cell of the calendar
+     */
+    @MainThread
+    public static void warmUp(Context context, @LayoutRes int dayLayout) {
+        prepare(context, dayLayout);
+
+        for (int pages = sPages.size() + sPendingPages; pages < MAX_PAGES; pages++) {
+            inflatePage(null);
+        }
+    }
+
+    /**
+     * This method removes all pages inflated with the context, e.g. when none of calendars
+     * of the context will be shown again before an activity is destroyed
+     *
+     * @param context A context of the calendar
+     */
+    @MainThread
+    public static void clear(Context context) {
+        if (context == getContext()) {
+            prepare(null, 0);
+        }
+    }
+
+    /**
+     * @return A pooled page inflated with the context or null if there is no such page
+     */
+    @MainThread
+    static CalendarGridView obtainPage(Context context, @LayoutRes int dayLayout) {
+        if (context != getContext() || dayLayout != sDayLayout) {
+            return null;
+        }
+
+        return (CalendarGridView) sPages.poll();
+    }
+
+    /**
+     * @return A pooled day cell inflated with the context or null if there is no such cell
+     */
+    @MainThread
+    static View obtainDayView(Context context, @LayoutRes int dayLayout) {
+        if (context != getContext() || dayLayout != sDayLayout) {
+            return null;
+        }
+
+        return sDayViews.poll();
+    }
+
+    /**
+     * This method passes a pooled page to the listener or inflates a new page in the background,
+     * day cells of the new page are added to the pool
+     */
+    @MainThread
+    static void requestPage(Context context, @LayoutRes int dayLayout, OnPageInflatedListener listener) {
+        prepare(context, dayLayout);
+
+        View page = sPages.poll();
+
+        if (page != null) {
+            listener.onPageInflated((CalendarGridView) page);
+            return;
+        }
+
+        inflatePage(listener);
+    }
+
+    private static void prepare(Context context, int dayLayout) {
+        if (context == getContext() && dayLayout == sDayLayout) {
+            return;
+        }
+
+        sContextReference = new WeakReference<>(context);
+        sDayLayout = dayLayout;
+        sPendingPages = 0;
+        sPages.clear();
+        sDayViews.clear();
+
+        if (context != null) {
+            registerLifecycleCallbacks(context);
+        }
+    }
+
+    private static Context getContext() {
+        return sContextReference.get();
+    }
+
+    // Pooled views keep their activity alive, so they are released when the activity is destroyed
+    // even if no calendar using them has been attached
+    private static void registerLifecycleCallbacks(Context context) {
+        Context applicationContext = context.getApplicationContext();
+
+        if (sLifecycleCallbacks != null || !(applicationContext instanceof Application)) {
+            return;
+        }
+
+        sLifecycleCallbacks = new Application.ActivityLifecycleCallbacks() {
+            @Override
+            public void onActivityDestroyed(Activity activity) {
+                if (getActivity(getContext()) == activity) {
+                    prepare(null, 0);
+                }
+            }
+
+            @Override
+            public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+            }
+
+            @Override
+            public void onActivityStarted(Activity activity) {
+            }
+
+            @Override
+            public void onActivityResumed(Activity activity) {
+            }
+
+            @Override
+            public void onActivityPaused(Activity activity) {
+            }
+
+            @Override
+            public void onActivityStopped(Activity activity) {
+            }
+
+            @Override
+            public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+            }
+        };
+
+        ((Application) applicationContext).registerActivityLifecycleCallbacks(sLifecycleCallbacks);
+    }
+
+    private static Activity getActivity(Context context) {
+        while (context instanceof ContextWrapper) {
+            if (context instanceof Activity) {
+                return (Activity) context;
+            }
+
+            context = ((ContextWrapper) context).getBaseContext();
+        }
+
+        return null;
+    }
+
+    private static void inflatePage(OnPageInflatedListener listener) {
+        Context context = getContext();
+        int dayLayout = sDayLayout;
+
+        sPendingPages++;
+
+        getExecutor().execute(() -> {
+            InflatedPage inflatedPage = new InflatedPage(context, dayLayout);
+            sMainHandler.post(() -> onPageInflated(inflatedPage, listener));
+        });
+    }
+
+    private static void onPageInflated(InflatedPage inflatedPage, OnPageInflatedListener listener) {
+        boolean currentContext = inflatedPage.mContext == getContext() && inflatedPage.mDayLayout == sDayLayout;
+
+        if (currentContext) {
+            sPendingPages--;
+
+            for (View dayView : inflatedPage.mDayViews) {
+                if (sDayViews.size() < MAX_DAY_VIEWS) {
+                    sDayViews.push(dayView);
+                }
+            }
+        }
+
+        View page = inflatedPage.mPage;
+
+        // Some views can't be inflated in the background, so the page is inflated here instead
+        if (page == null) {
+            page = LayoutInflater.from(inflatedPage.mContext).inflate(R.layout.calendar_view_grid, null);
+        }
+
+        if (listener != null) {
+            listener.onPageInflated((CalendarGridView) page);
+        } else if (currentContext && sPages.size() < MAX_PAGES) {
+            sPages.push(page);
+        }
+    }
+
+    private static ExecutorService getExecutor() {
+        if (sExecutor == null) {
+            sExecutor = Executors.newSingleThreadExecutor();
+        }
+
+        return sExecutor;
+    }
+
+    /**
+     * This class inflates one page and its day cells, it is created on a background thread
+     */
+    private static class InflatedPage {
+        private final Context mContext;
+        private final int mDayLayout;
+        private View mPage;
+        private List<View> mDayViews = new ArrayList<>(MonthGrid.CELLS_COUNT);
+
+        InflatedPage(Context context, int dayLayout) {
+            mContext = context;
+            mDayLayout = dayLayout;
+
+            // LayoutInflater is not thread safe, so the background thread uses its own copy
+            LayoutInflater inflater = LayoutInflater.from(context).cloneInContext(context);
+
+            try {
+                mPage = inflater.inflate(R.layout.calendar_view_grid, null);
+
+                for (int cell = 0; cell < MonthGrid.CELLS_COUNT; cell++) {
+                    mDayViews.add(inflater.inflate(dayLayout, null));
+                }
+            } catch (RuntimeException exception) {
+                mPage = null;
+                mDayViews.clear();
+            }
+        }
+    }
+
+    private CalendarPagePool() {
+    }
+}
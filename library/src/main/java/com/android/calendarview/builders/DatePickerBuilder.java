@@ -10,8 +10,10 @@ import com.android.calendarview.CalendarView;
 import com.android.calendarview.DatePicker;
 import com.android.calendarview.EventDay;
 import com.android.calendarview.listeners.OnCalendarPageChangeListener;
+import com.android.calendarview.listeners.OnPageSettledListener;
 import com.android.calendarview.listeners.OnSelectDateListener;
 import com.android.calendarview.utils.CalendarProperties;
+import com.android.calendarview.utils.DayMaskSet;
 
 import java.util.Calendar;
 import java.util.List;
@@ -363,11 +365,33 @@ public class DatePickerBuilder {
         return this;
     }
 
+    /**
+     * Sets the set of disabled days in the date picker dialog
+     *
+     * @param disabledDays The set of disabled days as a {@link DayMaskSet}
+     * @return The builder object to allow for chaining of methods
+     */
+    public DatePickerBuilder setDisabledDays(DayMaskSet disabledDays) {
+        mCalendarProperties.setDisabledDays(disabledDays);
+        return this;
+    }
+
     public DatePickerBuilder highlightedDays(List<Calendar> highlightedDays) {
         mCalendarProperties.setHighlightedDays(highlightedDays);
         return this;
     }
 
+    /**
+     * Sets the set of highlighted days in the date picker dialog
+     *
+     * @param highlightedDays The set of highlighted days as a {@link DayMaskSet}
+     * @return The builder object to allow for chaining of methods
+     */
+    public DatePickerBuilder setHighlightedDays(DayMaskSet highlightedDays) {
+        mCalendarProperties.setHighlightedDays(highlightedDays);
+        return this;
+    }
+
     /**
      * Sets the previous page change listener which is called when scrolling to the previous page
      *
@@ -414,6 +438,28 @@ public class DatePickerBuilder {
         return this;
     }
 
+    /**
+     * Sets the listener which is called once a page has settled after scrolling
+     *
+     * @param listener The page settled listener to use
+     * @return The builder object to allow for chaining of methods
+     */
+    public DatePickerBuilder setPageSettledListener(OnPageSettledListener listener) {
+        mCalendarProperties.setOnPageSettledListener(listener);
+        return this;
+    }
+
+    /**
+     * Sets the quiet period after scrolling, before a page is treated as settled
+     *
+     * @param delay The quiet period in milliseconds
+     * @return The builder object to allow for chaining of methods
+     */
+    public DatePickerBuilder setPageSettledDelay(long delay) {
+        mCalendarProperties.setPageSettledDelay(delay);
+        return this;
+    }
+
     /**
      * Sets the color of the disabled days numbers
      *
@@ -620,6 +666,28 @@ public class DatePickerBuilder {
         return this;
     }
 
+    /**
+     * Sets whether calendar pages should be drawn by single views instead of inflated day cells
+     *
+     * @param monthViewEnabled Boolean value if pages should be drawn by single views
+     * @return The builder object to allow for chaining of methods
+     */
+    public DatePickerBuilder setMonthViewEnabled(boolean monthViewEnabled) {
+        mCalendarProperties.setMonthViewEnabled(monthViewEnabled);
+        return this;
+    }
+
+    /**
+     * Sets whether calendar pages should be inflated on a background thread
+     *
+     * @param asyncInflationEnabled Boolean value if pages should be inflated in the background
+     * @return The builder object to allow for chaining of methods
+     */
+    public DatePickerBuilder setAsyncInflationEnabled(boolean asyncInflationEnabled) {
+        mCalendarProperties.setAsyncInflationEnabled(asyncInflationEnabled);
+        return this;
+    }
+
     /**
      * Sets whether the date picker navigation buttons should be visible
      *
@@ -2,9 +2,14 @@ package com.android.calendarview.extensions;
 
 import android.content.Context;
 import android.util.AttributeSet;
+import android.widget.BaseAdapter;
 import android.widget.GridView;
 
-public class CalendarGridView extends GridView {
+import com.android.calendarview.utils.MonthGrid;
+
+public class CalendarGridView extends GridView implements CalendarPage {
+
+    private MonthGrid mMonthGrid;
 
     public CalendarGridView(Context context, AttributeSet attrs) {
         super(context, attrs);
@@ -25,4 +30,19 @@ public class CalendarGridView extends GridView {
                 MeasureSpec.AT_MOST);
         super.onMeasure(widthMeasureSpec, expandSpec);
     }
+
+    @Override
+    public MonthGrid getMonthGrid() {
+        return mMonthGrid;
+    }
+
+    @Override
+    public void setMonthGrid(MonthGrid monthGrid) {
+        mMonthGrid = monthGrid;
+    }
+
+    @Override
+    public void invalidateDays() {
+        ((BaseAdapter) getAdapter()).notifyDataSetChanged();
+    }
 }
@@ -0,0 +1,411 @@
+package com.android.calendarview.extensions;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+import android.net.Uri;
+import android.os.Build;
+import android.view.GestureDetector;
+import android.view.MotionEvent;
+import android.view.SoundEffectConstants;
+import android.view.View;
+
+import com.android.calendarview.CalendarView;
+import com.android.calendarview.R;
+import com.android.calendarview.utils.CalendarPalette;
+import com.android.calendarview.utils.CalendarProperties;
+import com.android.calendarview.utils.DayEvents;
+import com.android.calendarview.utils.DrawableCache;
+import com.android.calendarview.utils.EpochDay;
+import com.android.calendarview.utils.EventImageLoader;
+import com.android.calendarview.utils.MonthGrid;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * This class represents one calendar page drawn by a single view. Day numbers, selections, today
+ * markers and event images are drawn directly on the canvas using the same colors as inflated
+ * day cells, so a page doesn't contain any child views.
+ * <p>
+ */
+
+public class CalendarMonthView extends View implements CalendarPage {
+
+    private static final int COLUMNS_COUNT = 7;
+    private static final int ROWS_COUNT = MonthGrid.CELLS_COUNT / COLUMNS_COUNT;
+
+    // The same alpha as an image of a disabled or another month day in an inflated cell
+    private static final int DISABLED_ICON_ALPHA = 31;
+
+    /**
+     * This interface is used to inform about clicks on days of the page
+     */
+    public interface OnDayCellClickListener {
+        void onDayCellClick(CalendarMonthView calendarMonthView, int day);
+    }
+
+    private CalendarProperties mCalendarProperties;
+    private MonthGrid mMonthGrid;
+    private int mToday = EpochDay.today();
+
+    private OnDayCellClickListener mOnDayCellClickListener;
+    private GestureDetector mGestureDetector;
+
+    private Paint mLabelPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private Paint mCirclePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private Paint mRingPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    // Event images are drawn from shared bitmaps, so nothing is allocated while drawing
+    private Paint mIconPaint = new Paint(Paint.FILTER_BITMAP_FLAG);
+    private Rect mIconBounds = new Rect();
+
+    private int mRowHeight;
+    private float mCircleRadius;
+    private int mIconMarginBottom;
+    private int mIconMaxSize;
+
+    // URI images this view waits for, so a listener is added once per image and size
+    private final Set<String> mRequestedImages = new HashSet<>();
+
+    public CalendarMonthView(Context context, CalendarProperties calendarProperties) {
+        super(context);
+        mCalendarProperties = calendarProperties;
+
+        Resources resources = getResources();
+        boolean eventsEnabled = calendarProperties.getEventsEnabled();
+
+        mRowHeight = resources.getDimensionPixelSize(eventsEnabled
+                ? R.dimen.day_cell_size_events_enabled : R.dimen.row_height);
+
+        mCircleRadius = resources.getDimensionPixelSize(eventsEnabled
+                ? R.dimen.day_cell_size_events_enabled : R.dimen.day_label_size_events_disabled) / 2f;
+
+        mIconMarginBottom = resources.getDimensionPixelSize(R.dimen.day_icon_margin_bottom);
+        mIconMaxSize = (int) mCircleRadius;
+
+        mLabelPaint.setTextAlign(Paint.Align.CENTER);
+        mLabelPaint.setTextSize(resources.getDimension(eventsEnabled
+                ? R.dimen.day_label_text_size_events_enabled : R.dimen.day_label_text_size_events_disabled));
+
+        mCirclePaint.setStyle(Paint.Style.FILL);
+
+        mRingPaint.setStyle(Paint.Style.STROKE);
+        mRingPaint.setStrokeWidth(resources.getDimension(R.dimen.day_selection_stroke_width));
+
+        mGestureDetector = new GestureDetector(context, new GestureDetector.SimpleOnGestureListener() {
+            @Override
+            public boolean onDown(MotionEvent event) {
+                return true;
+            }
+
+            @Override
+            public boolean onSingleTapUp(MotionEvent event) {
+                return onDayCellClick(event.getX(), event.getY());
+            }
+        });
+    }
+
+    public void setOnDayCellClickListener(OnDayCellClickListener onDayCellClickListener) {
+        mOnDayCellClickListener = onDayCellClickListener;
+    }
+
+    @Override
+    public MonthGrid getMonthGrid() {
+        return mMonthGrid;
+    }
+
+    @Override
+    public void setMonthGrid(MonthGrid monthGrid) {
+        mMonthGrid = monthGrid;
+
+        // Failed images can be requested again when a page is rebound
+        mRequestedImages.clear();
+        requestImages();
+        invalidate();
+    }
+
+    @Override
+    public void invalidateDays() {
+        mToday = EpochDay.today();
+        requestImages();
+        invalidate();
+    }
+
+    /**
+     * This method starts loading URI images of displayed days which are not cached yet,
+     * so onDraw() only reads images from the cache
+     */
+    private void requestImages() {
+        if (mMonthGrid == null || !mCalendarProperties.getEventsEnabled() || !mCalendarProperties.hasEventDays()) {
+            return;
+        }
+
+        for (int cell = 0; cell < MonthGrid.CELLS_COUNT; cell++) {
+            DayEvents dayEvents = mCalendarProperties.getDayEvents(mMonthGrid.getDay(cell));
+
+            if (dayEvents == null) {
+                continue;
+            }
+
+            int size = getIconSize(dayEvents.getIndicatorsCount());
+
+            for (int position = 0; position < dayEvents.getIndicatorsCount(); position++) {
+                Object image = dayEvents.getIndicator(position);
+
+                if (image instanceof Uri && EventImageLoader.getCachedBitmap((Uri) image, size) == null) {
+                    requestImage((Uri) image, size);
+                }
+            }
+        }
+    }
+
+    private void requestImage(Uri uri, int size) {
+        String key = uri + "#" + size;
+
+        if (!mRequestedImages.add(key)) {
+            return;
+        }
+
+        // An image can be displayed by many days, so the whole page is redrawn when it is ready
+        EventImageLoader.load(getContext(), uri, size, bitmap -> {
+            mRequestedImages.remove(key);
+            invalidate();
+        });
+    }
+
+    private int getIconSize(int count) {
+        // Many images of one day are drawn smaller in one row
+        return count <= 1 ? mIconMaxSize : mIconMaxSize * 2 / count;
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int width = getDefaultSize(getSuggestedMinimumWidth(), widthMeasureSpec);
+        int height = resolveSize(mRowHeight * ROWS_COUNT, heightMeasureSpec);
+
+        setMeasuredDimension(width, height);
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        return mGestureDetector.onTouchEvent(event) || super.onTouchEvent(event);
+    }
+
+    private boolean onDayCellClick(float x, float y) {
+        if (mMonthGrid == null || mOnDayCellClickListener == null) {
+            return false;
+        }
+
+        int column = (int) (x * COLUMNS_COUNT / getWidth());
+        int row = (int) (y / mRowHeight);
+
+        if (column < 0 || column >= COLUMNS_COUNT || row < 0 || row >= ROWS_COUNT) {
+            return false;
+        }
+
+        playSoundEffect(SoundEffectConstants.CLICK);
+        mOnDayCellClickListener.onDayCellClick(this, mMonthGrid.getDay(row * COLUMNS_COUNT + column));
+        return true;
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        if (mMonthGrid == null) {
+            return;
+        }
+
+        float cellWidth = (float) getWidth() / COLUMNS_COUNT;
+
+        // Colors are resolved once per frame, cells only read fields of the palette
+        CalendarPalette palette = mCalendarProperties.getPalette();
+
+        for (int cell = 0; cell < MonthGrid.CELLS_COUNT; cell++) {
+            float centerX = cellWidth * (cell % COLUMNS_COUNT + 0.5f);
+            float centerY = mRowHeight * (cell / COLUMNS_COUNT + 0.5f);
+
+            drawDay(canvas, palette, cell, centerX, centerY);
+        }
+    }
+
+    /**
+     * This method draws one day using the same rules as CalendarDayAdapter uses for inflated cells
+     */
+    private void drawDay(Canvas canvas, CalendarPalette palette, int cell, float centerX, float centerY) {
+        int day = mMonthGrid.getDay(cell);
+        boolean currentMonthDay = isCurrentMonthDay(day);
+        boolean activeDay = isActiveDay(day);
+
+        int labelColor;
+        Typeface typeface = Typeface.DEFAULT;
+
+        if (!currentMonthDay) {
+            labelColor = palette.getAnotherMonthsDaysLabelsColor();
+        } else if (isSelectedDay(day)) {
+            mRingPaint.setColor(palette.getSelectionColor());
+            canvas.drawCircle(centerX, centerY, mCircleRadius, mRingPaint);
+            labelColor = palette.getDaysLabelsColor();
+        } else if (!activeDay) {
+            labelColor = palette.getDisabledDaysLabelsColor();
+        } else if (day == mToday) {
+            labelColor = drawToday(canvas, palette, centerX, centerY);
+            typeface = palette.getTodayColor() == 0 ? Typeface.DEFAULT_BOLD : Typeface.DEFAULT;
+        } else {
+            labelColor = getCurrentMonthDayLabelColor(palette, day);
+        }
+
+        mLabelPaint.setColor(labelColor);
+        mLabelPaint.setTypeface(typeface);
+
+        float baseline = centerY - (mLabelPaint.ascent() + mLabelPaint.descent()) / 2;
+        canvas.drawText(mMonthGrid.getDayLabel(cell), centerX, baseline, mLabelPaint);
+
+        if (mCalendarProperties.getEventsEnabled()) {
+            drawIcons(canvas, day, centerX, centerY, currentMonthDay && activeDay);
+        }
+    }
+
+    private int drawToday(Canvas canvas, CalendarPalette palette, float centerX, float centerY) {
+        int todayColor = palette.getTodayColor();
+
+        // Without a custom color today is marked by a white circle and a bold label
+        mCirclePaint.setColor(todayColor != 0 ? todayColor : Color.WHITE);
+        canvas.drawCircle(centerX, centerY, mCircleRadius, mCirclePaint);
+
+        return todayColor != 0 ? palette.getSelectionLabelColor() : palette.getTodayLabelColor();
+    }
+
+    private int getCurrentMonthDayLabelColor(CalendarPalette palette, int day) {
+        DayEvents dayEvents = mCalendarProperties.getDayEvents(day);
+
+        if (dayEvents != null && dayEvents.getLabelColor() != 0) {
+            return dayEvents.getLabelColor();
+        }
+
+        if (mCalendarProperties.getHighlightedDays().contains(day)) {
+            return palette.getHighlightedDaysLabelsColor();
+        }
+
+        return palette.getDaysLabelsColor();
+    }
+
+    private void drawIcons(Canvas canvas, int day, float centerX, float centerY, boolean enabled) {
+        DayEvents dayEvents = mCalendarProperties.getDayEvents(day);
+
+        if (dayEvents == null || dayEvents.getIndicatorsCount() == 0) {
+            return;
+        }
+
+        int count = dayEvents.getIndicatorsCount();
+        int size = getIconSize(count);
+        int bottom = (int) (centerY + mCircleRadius) - mIconMarginBottom;
+        int left = (int) centerX - size * count / 2;
+
+        for (int position = 0; position < count; position++) {
+            drawIcon(canvas, dayEvents.getIndicator(position), left + position * size, bottom, size, enabled);
+        }
+    }
+
+    private void drawIcon(Canvas canvas, Object image, int cellLeft, int bottom, int size, boolean enabled) {
+        // Drawable objects set by a user can't be turned into shared bitmaps
+        if (image instanceof Drawable) {
+            drawDrawable(canvas, (Drawable) image, cellLeft, bottom, size, enabled);
+            return;
+        }
+
+        Bitmap bitmap = getBitmap(image, size);
+
+        // An URI image requested by requestImages() is replaced by a placeholder until it is ready
+        if (bitmap == null && image instanceof Uri) {
+            bitmap = getPlaceholder(size);
+        }
+
+        if (bitmap == null) {
+            // Resources without any size, like colors, are not cached as bitmaps
+            if (image instanceof Integer) {
+                drawDrawable(canvas, DrawableCache.get(getContext(), (Integer) image, size), cellLeft, bottom, size, enabled);
+            }
+
+            return;
+        }
+
+        int width = Math.min(bitmap.getWidth(), size);
+        int height = Math.min(bitmap.getHeight(), size);
+        int left = cellLeft + (size - width) / 2;
+
+        mIconBounds.set(left, bottom - height, left + width, bottom);
+        mIconPaint.setAlpha(enabled ? 255 : DISABLED_ICON_ALPHA);
+
+        canvas.drawBitmap(bitmap, null, mIconBounds, mIconPaint);
+    }
+
+    private Bitmap getBitmap(Object image, int size) {
+        if (image instanceof Integer) {
+            return DrawableCache.getBitmap(getContext(), (Integer) image, size);
+        }
+
+        if (image instanceof Uri) {
+            return EventImageLoader.getCachedBitmap((Uri) image, size);
+        }
+
+        return null;
+    }
+
+    private void drawDrawable(Canvas canvas, Drawable icon, int cellLeft, int bottom, int size, boolean enabled) {
+        if (icon == null) {
+            return;
+        }
+
+        int width = Math.min(Math.max(icon.getIntrinsicWidth(), 0), size);
+        int height = Math.min(Math.max(icon.getIntrinsicHeight(), 0), size);
+        int left = cellLeft + (size - width) / 2;
+
+        // A drawable can be shared with other views, so its bounds are restored after drawing
+        icon.copyBounds(mIconBounds);
+        icon.setBounds(left, bottom - height, left + width, bottom);
+
+        if (enabled) {
+            icon.draw(canvas);
+        } else {
+            int saveCount = saveLayerAlpha(canvas, left, bottom - height, left + width, bottom);
+            icon.draw(canvas);
+            canvas.restoreToCount(saveCount);
+        }
+
+        icon.setBounds(mIconBounds);
+    }
+
+    // Save flags are deprecated since Lollipop, where a layer always saves the whole state
+    @SuppressWarnings("deprecation")
+    private static int saveLayerAlpha(Canvas canvas, float left, float top, float right, float bottom) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            return canvas.saveLayerAlpha(left, top, right, bottom, DISABLED_ICON_ALPHA);
+        }
+
+        return canvas.saveLayerAlpha(left, top, right, bottom, DISABLED_ICON_ALPHA, Canvas.ALL_SAVE_FLAG);
+    }
+
+    private Bitmap getPlaceholder(int size) {
+        int placeholder = mCalendarProperties.getEventImagePlaceholder();
+        return placeholder == 0 ? null : DrawableCache.getBitmap(getContext(), placeholder, size);
+    }
+
+    private boolean isSelectedDay(int day) {
+        return mCalendarProperties.getCalendarType() != CalendarView.CLASSIC
+                && mCalendarProperties.getSelectedDays().contains(day);
+    }
+
+    private boolean isCurrentMonthDay(int day) {
+        return mMonthGrid.isCurrentMonthDay(day) && mCalendarProperties.isBetweenMinAndMax(day);
+    }
+
+    private boolean isActiveDay(int day) {
+        return !mCalendarProperties.getDisabledDays().contains(day);
+    }
+}
@@ -0,0 +1,24 @@
+package com.android.calendarview.extensions;
+
+import com.android.calendarview.utils.MonthGrid;
+
+/**
+ * This interface represents one page of the calendar, a GridView of inflated day cells or a
+ * single view drawing a whole month.
+ * <p>
+ */
+
+public interface CalendarPage {
+
+    /**
+     * @return A layout of the month currently bound to this page
+     */
+    MonthGrid getMonthGrid();
+
+    void setMonthGrid(MonthGrid monthGrid);
+
+    /**
+     * This method refreshes all days of the page after a change of calendar data
+     */
+    void invalidateDays();
+}
@@ -0,0 +1,57 @@
+package com.android.calendarview.extensions;
+
+import android.content.Context;
+import android.widget.FrameLayout;
+
+import com.android.calendarview.utils.MonthGrid;
+
+/**
+ * This class represents a calendar page which is attached to ViewPager before its GridView is
+ * inflated in the background. A month is bound to the frame immediately and it is passed to the
+ * GridView when the GridView is ready.
+ * <p>
+ */
+
+public class CalendarPageFrame extends FrameLayout implements CalendarPage {
+
+    private MonthGrid mMonthGrid;
+    private CalendarGridView mCalendarGridView;
+
+    public CalendarPageFrame(Context context) {
+        super(context);
+    }
+
+    /**
+     * @return GridView of the page or null if it is still inflated
+     */
+    public CalendarGridView getCalendarGridView() {
+        return mCalendarGridView;
+    }
+
+    public void setCalendarGridView(CalendarGridView calendarGridView) {
+        mCalendarGridView = calendarGridView;
+        mCalendarGridView.setMonthGrid(mMonthGrid);
+        addView(calendarGridView);
+    }
+
+    @Override
+    public MonthGrid getMonthGrid() {
+        return mMonthGrid;
+    }
+
+    @Override
+    public void setMonthGrid(MonthGrid monthGrid) {
+        mMonthGrid = monthGrid;
+
+        if (mCalendarGridView != null) {
+            mCalendarGridView.setMonthGrid(monthGrid);
+        }
+    }
+
+    @Override
+    public void invalidateDays() {
+        if (mCalendarGridView != null) {
+            mCalendarGridView.invalidateDays();
+        }
+    }
+}
@@ -2,200 +2,160 @@ package com.android.calendarview.listeners;
 
 import android.view.View;
 import android.widget.AdapterView;
-import android.widget.TextView;
 
-import com.android.calendarview.CalendarUtils;
 import com.android.calendarview.CalendarView;
 import com.android.calendarview.EventDay;
-import com.android.calendarview.R;
 import com.android.calendarview.adapters.CalendarPageAdapter;
+import com.android.calendarview.extensions.CalendarGridView;
+import com.android.calendarview.extensions.CalendarMonthView;
 import com.android.calendarview.utils.CalendarProperties;
-import com.android.calendarview.utils.DateUtils;
-import com.android.calendarview.utils.DayColorsUtils;
+import com.android.calendarview.utils.DayEvents;
+import com.android.calendarview.utils.DayMaskSet;
+import com.android.calendarview.utils.EpochDay;
+import com.android.calendarview.utils.MonthGrid;
 import com.android.calendarview.utils.SelectedDay;
-import com.annimon.stream.Stream;
+import com.android.calendarview.utils.SelectedDays;
 
-import java.util.Calendar;
-import java.util.Date;
-import java.util.GregorianCalendar;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * This class is responsible for handle click events
  * <p>
+ * A click changes only selected days, then pages containing changed days are rebound, so cells
+ * recycled for other dates are never repainted directly.
+ * <p>
  */
 
-public class DayRowClickListener implements AdapterView.OnItemClickListener {
+public class DayRowClickListener implements AdapterView.OnItemClickListener,
+        CalendarMonthView.OnDayCellClickListener {
 
     private CalendarPageAdapter mCalendarPageAdapter;
 
     private CalendarProperties mCalendarProperties;
-    private int mPageMonth;
+    private MonthGrid mMonthGrid;
 
-    public DayRowClickListener(CalendarPageAdapter calendarPageAdapter, CalendarProperties calendarProperties, int pageMonth) {
+    public DayRowClickListener(CalendarPageAdapter calendarPageAdapter, CalendarProperties calendarProperties) {
         mCalendarPageAdapter = calendarPageAdapter;
         mCalendarProperties = calendarProperties;
-        mPageMonth = pageMonth < 0 ? 11 : pageMonth;
     }
 
     @Override
     public void onItemClick(AdapterView<?> adapterView, View view, int position, long id) {
-        Calendar day = new GregorianCalendar();
-        day.setTime((Date) adapterView.getItemAtPosition(position));
+        // One listener is shared by all pages, so a month is taken from the clicked page.
+        // An item id of a day cell is its epoch day.
+        onDayClick(((CalendarGridView) adapterView).getMonthGrid(), (int) id);
+    }
+
+    @Override
+    public void onDayCellClick(CalendarMonthView calendarMonthView, int day) {
+        onDayClick(calendarMonthView.getMonthGrid(), day);
+    }
+
+    private void onDayClick(MonthGrid monthGrid, int day) {
+        mMonthGrid = monthGrid;
 
         if (mCalendarProperties.getOnDayClickListener() != null) {
             onClick(day);
         }
 
+        // Days which were selected before the click have to be rebound too
+        DayMaskSet changedDays = mCalendarPageAdapter.getSelectedDays().getDays();
+
         switch (mCalendarProperties.getCalendarType()) {
             case CalendarView.ONE_DAY_PICKER:
-                selectOneDay(view, day);
+                if (isAnotherDaySelected(mCalendarPageAdapter.getSelectedDay(), day)) {
+                    mCalendarPageAdapter.setSelectedDay(new SelectedDay(day));
+                }
                 break;
 
             case CalendarView.MANY_DAYS_PICKER:
-                selectManyDays(view, day);
+                if (isCurrentMonthDay(day) && isActiveDay(day)) {
+                    mCalendarPageAdapter.addSelectedDay(new SelectedDay(day));
+                }
                 break;
 
             case CalendarView.RANGE_PICKER:
-                selectRange(view, day);
+                selectRange(day);
                 break;
 
             case CalendarView.CLASSIC:
-                mCalendarPageAdapter.setSelectedDay(new SelectedDay(view, view, day));
-        }
-    }
-
-    private void selectOneDay(View view, Calendar day) {
-        SelectedDay previousSelectedDay = mCalendarPageAdapter.getSelectedDay();
-        TextView dayLabel = view.findViewById(R.id.dayLabel);
-        View dayCell = view.findViewById(R.id.dayCell);
-
-        if (isAnotherDaySelected(previousSelectedDay, day)) {
-            selectDay(dayLabel, dayCell, day);
-            reverseUnselectedColor(previousSelectedDay);
+                mCalendarPageAdapter.setSelectedDay(new SelectedDay(day));
         }
-    }
-
-    private void selectManyDays(View view, Calendar day) {
-        TextView dayLabel = view.findViewById(R.id.dayLabel);
-        View dayCell = view.findViewById(R.id.dayCell);
-
-        if (isCurrentMonthDay(day) && isActiveDay(day)) {
-            SelectedDay selectedDay = new SelectedDay(dayLabel, view, day);
-
-            if (!mCalendarPageAdapter.getSelectedDays().contains(selectedDay)) {
-                DayColorsUtils.setSelectedDayColors(dayLabel, dayCell, mCalendarProperties);
-            } else {
-                reverseUnselectedColor(selectedDay);
-            }
 
-            mCalendarPageAdapter.addSelectedDay(selectedDay);
-        }
+        changedDays.addAll(mCalendarPageAdapter.getSelectedDays().getDays());
+        mCalendarPageAdapter.notifyDaysChanged(changedDays);
     }
 
-    private void selectRange(View view, Calendar day) {
-        TextView dayLabel = view.findViewById(R.id.dayLabel);
-        View dayCell = view.findViewById(R.id.dayCell);
-
+    private void selectRange(int day) {
         if (!isCurrentMonthDay(day) || !isActiveDay(day)) {
             return;
         }
 
-        List<SelectedDay> selectedDays = mCalendarPageAdapter.getSelectedDays();
-
-        if (selectedDays.size() > 1) {
-            clearAndSelectOne(dayLabel, dayCell, day);
-        }
+        SelectedDays selectedDays = mCalendarPageAdapter.getSelectedDays();
 
         if (selectedDays.size() == 1) {
-            selectOneAndRange(dayLabel, dayCell, day);
-        }
-
-        if (selectedDays.isEmpty()) {
-            selectDay(dayLabel, dayCell, day);
-        }
-    }
-
-    private void clearAndSelectOne(TextView dayLabel, View dayCell, Calendar day) {
-        Stream.of(mCalendarPageAdapter.getSelectedDays()).forEach(selectedDay -> reverseUnselectedColor(selectedDay));
-        selectDay(dayLabel, dayCell, day);
-    }
-
-    private void selectOneAndRange(TextView dayLabel, View dayCell, Calendar day) {
-        SelectedDay previousSelectedDay = mCalendarPageAdapter.getSelectedDay();
+            SelectedDay previousSelectedDay = mCalendarPageAdapter.getSelectedDay();
 
-        Stream.of(CalendarUtils.getDatesRange(previousSelectedDay.getCalendar(), day))
-                .filter(calendar -> !mCalendarProperties.getDisabledDays().contains(calendar))
-                .forEach(calendar -> mCalendarPageAdapter.addSelectedDay(new SelectedDay(calendar)));
+            if (!isOutOfMaxRange(previousSelectedDay.getEpochDay(), day)) {
+                mCalendarPageAdapter.selectRange(previousSelectedDay, new SelectedDay(day));
+            }
 
-        if (isOutOfMaxRange(previousSelectedDay.getCalendar(), day)) {
             return;
         }
 
-        DayColorsUtils.setSelectedDayColors(dayLabel, dayCell, mCalendarProperties);
-
-        mCalendarPageAdapter.addSelectedDay(new SelectedDay(dayLabel, dayCell, day));
-        mCalendarPageAdapter.notifyDataSetChanged();
+        mCalendarPageAdapter.setSelectedDay(new SelectedDay(day));
     }
 
-    private void selectDay(TextView dayLabel, View dayCell, Calendar day) {
-        DayColorsUtils.setSelectedDayColors(dayLabel, dayCell, mCalendarProperties);
-        mCalendarPageAdapter.setSelectedDay(new SelectedDay(dayLabel, dayCell, day));
+    private boolean isCurrentMonthDay(int day) {
+        return mMonthGrid.isCurrentMonthDay(day) && mCalendarProperties.isBetweenMinAndMax(day);
     }
 
-    private void reverseUnselectedColor(SelectedDay selectedDay) {
-        DayColorsUtils.setCurrentMonthDayColors(selectedDay.getCalendar(), DateUtils.getCalendar(), (TextView) selectedDay.getView(), selectedDay.getViewCell(), mCalendarProperties);
-    }
-
-    private boolean isCurrentMonthDay(Calendar day) {
-        return day.get(Calendar.MONTH) == mPageMonth && isBetweenMinAndMax(day);
-    }
-
-    private boolean isActiveDay(Calendar day) {
+    private boolean isActiveDay(int day) {
         return !mCalendarProperties.getDisabledDays().contains(day);
     }
 
-    private boolean isBetweenMinAndMax(Calendar day) {
-        return !((mCalendarProperties.getMinimumDate() != null && day.before(mCalendarProperties.getMinimumDate()))
-                || (mCalendarProperties.getMaximumDate() != null && day.after(mCalendarProperties.getMaximumDate())));
-    }
-
-    private boolean isOutOfMaxRange(Calendar firstDay, Calendar lastDay) {
+    private boolean isOutOfMaxRange(int firstEpochDay, int lastEpochDay) {
 
-        // Number of selected days plus one last day
-        int numberOfSelectedDays = CalendarUtils.getDatesRange(firstDay, lastDay).size() + 1;
+        // Number of days between the first and the last day, the same as days in range minus one
+        int numberOfSelectedDays = Math.abs(lastEpochDay - firstEpochDay);
         int daysMaxRange = mCalendarProperties.getMaximumDaysRange();
 
         return daysMaxRange != 0 && numberOfSelectedDays >= daysMaxRange;
     }
 
-    private boolean isAnotherDaySelected(SelectedDay selectedDay, Calendar day) {
-        return selectedDay != null && !day.equals(selectedDay.getCalendar())
+    private boolean isAnotherDaySelected(SelectedDay selectedDay, int day) {
+        return selectedDay != null && day != selectedDay.getEpochDay()
                 && isCurrentMonthDay(day) && isActiveDay(day);
     }
 
-    private void onClick(Calendar day) {
-        if (mCalendarProperties.getEventDays() == null) {
+    private void onClick(int day) {
+        DayEvents dayEvents = mCalendarProperties.hasEventDays() ? mCalendarProperties.getDayEvents(day) : null;
+
+        if (dayEvents == null) {
             createEmptyEventDay(day);
             return;
         }
 
-        Stream.of(mCalendarProperties.getEventDays())
-                .filter(eventDate -> eventDate.getCalendar().equals(day))
-                .findFirst()
-                .ifPresentOrElse(this::callOnClickListener, () -> createEmptyEventDay(day));
+        callOnClickListener(dayEvents.getFirstEventDay(), dayEvents.getEventDays(), day);
     }
 
-    private void createEmptyEventDay(Calendar day) {
-        EventDay eventDay = new EventDay(day);
-        callOnClickListener(eventDay);
+    private void createEmptyEventDay(int day) {
+        // A Calendar object is created only for the public listener
+        EventDay eventDay = new EventDay(EpochDay.toCalendar(day));
+        callOnClickListener(eventDay, Collections.emptyList(), day);
     }
 
-    private void callOnClickListener(EventDay eventDay) {
-        boolean enabledDay = mCalendarProperties.getDisabledDays().contains(eventDay.getCalendar())
-                || !isBetweenMinAndMax(eventDay.getCalendar());
+    private void callOnClickListener(EventDay eventDay, List<EventDay> eventDays, int day) {
+        boolean enabledDay = mCalendarProperties.getDisabledDays().contains(day)
+                || !mCalendarProperties.isBetweenMinAndMax(day);
 
         eventDay.setEnabled(enabledDay);
-        mCalendarProperties.getOnDayClickListener().onDayClick(eventDay);
+
+        for (EventDay dayEventDay : eventDays) {
+            dayEventDay.setEnabled(enabledDay);
+        }
+
+        mCalendarProperties.getOnDayClickListener().onDayClick(eventDay, eventDays);
     }
 }
@@ -1,8 +1,9 @@
 package com.android.calendarview.listeners;
 
-
 import com.android.calendarview.EventDay;
 
+import java.util.List;
+
 /**
  * This interface is used to handle clicks on calendar cells
  * <p>
@@ -10,4 +11,15 @@ import com.android.calendarview.EventDay;
 
 public interface OnDayClickListener {
     void onDayClick(EventDay eventDay);
+
+    /**
+     * This method is called instead of onDayClick(EventDay) to pass all events of a clicked day,
+     * by default it calls onDayClick(EventDay)
+     *
+     * @param eventDay  The first event of the day or a new EventDay object if there is no event
+     * @param eventDays An unmodifiable list of all events of the day, empty if there is no event
+     */
+    default void onDayClick(EventDay eventDay, List<EventDay> eventDays) {
+        onDayClick(eventDay);
+    }
 }
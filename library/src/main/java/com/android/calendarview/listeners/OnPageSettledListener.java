@@ -0,0 +1,18 @@
+package com.android.calendarview.listeners;
+
+/**
+ * This interface is used to inform that a calendar page has settled, it is called once when
+ * scrolling has stopped for a quiet period, so pages passed during a fling are skipped
+ * <p>
+ */
+
+public interface OnPageSettledListener {
+
+    /**
+     * @param year     A year of the page
+     * @param month    A month of the page, counted from 0 like in the Calendar class
+     * @param firstDay Epoch day of the first visible cell of the page
+     * @param lastDay  Epoch day of the last visible cell of the page
+     */
+    void onPageSettled(int year, int month, int firstDay, int lastDay);
+}
@@ -0,0 +1,31 @@
+package com.android.calendarview.listeners;
+
+/**
+ * This interface is used to inform about days rendered by a current calendar page, including days
+ * of previous and next months, and days of neighbouring pages which can be prefetched
+ * <p>
+ * All days are epoch days (a number of days since 1970-01-01).
+ * <p>
+ */
+
+public interface OnVisibleRangeChangeListener {
+
+    /**
+     * This method is called when another page is selected
+     *
+     * @param firstVisibleDay  The first day rendered by the current page
+     * @param lastVisibleDay   The last day rendered by the current page
+     * @param firstPrefetchDay The first day rendered by the first prefetched page
+     * @param lastPrefetchDay  The last day rendered by the last prefetched page
+     */
+    void onVisibleRangeChanged(int firstVisibleDay, int lastVisibleDay, int firstPrefetchDay, int lastPrefetchDay);
+
+    /**
+     * This method is called when a page was passed during a fling before the calendar settled on it,
+     * so data of its range is not needed anymore
+     *
+     * @param firstPrefetchDay The first day of the cancelled range including prefetched pages
+     * @param lastPrefetchDay  The last day of the cancelled range including prefetched pages
+     */
+    void onVisibleRangeCancelled(int firstPrefetchDay, int lastPrefetchDay);
+}
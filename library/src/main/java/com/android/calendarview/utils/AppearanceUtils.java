@@ -29,7 +29,7 @@ public final class AppearanceUtils {
         labels.add((TextView) view.findViewById(R.id.saturdayLabel));
         labels.add((TextView) view.findViewById(R.id.sundayLabel));
 
-        String[] abbreviations = view.getContext().getResources().getStringArray(R.array.material_calendar_day_abbreviations_array);
+        String[] abbreviations = CalendarLabels.getDayAbbreviations(view.getContext());
         for (int i = 0; i < 7; i++) {
             TextView label = labels.get(i);
             label.setText(abbreviations[(i + firstDayOfWeek - 1) % 7]);
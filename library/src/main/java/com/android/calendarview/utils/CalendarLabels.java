@@ -0,0 +1,111 @@
+package com.android.calendarview.utils;
+
+import android.content.ComponentCallbacks;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.util.SparseArray;
+
+import com.android.calendarview.R;
+
+import java.util.Locale;
+
+/**
+ * This class keeps localized labels of calendars, so header labels and day abbreviations are
+ * built once per locale. Changing a page doesn't read resources or format any string.
+ * <p>
+ * Labels are cleared when a configuration or a default locale changes. The cache is used only on
+ * the main thread.
+ * <p>
+ */
+
+public final class CalendarLabels {
+
+    // Header labels of months which were displayed, they are cleared when there are too many of them
+    private static final int MAX_MONTH_AND_YEAR_LABELS = 240;
+
+    private static final SparseArray<String> sMonthAndYearLabels = new SparseArray<>();
+    private static String[] sMonths;
+    private static String[] sDayAbbreviations;
+    private static Locale sLocale;
+
+    private static boolean sCallbacksRegistered;
+
+    /**
+     * @param context    A context used to get names of months
+     * @param monthIndex A month index equal to year * 12 + month
+     * @return A label containing a month's name and a year (in number)
+     */
+    public static String getMonthAndYearLabel(Context context, int monthIndex) {
+        prepare(context);
+
+        String label = sMonthAndYearLabels.get(monthIndex);
+
+        if (label == null) {
+            if (sMonthAndYearLabels.size() >= MAX_MONTH_AND_YEAR_LABELS) {
+                sMonthAndYearLabels.clear();
+            }
+
+            label = String.format("%s  %s", sMonths[EpochDay.getMonthOfMonth(monthIndex)],
+                    EpochDay.getYearOfMonth(monthIndex));
+            sMonthAndYearLabels.put(monthIndex, label);
+        }
+
+        return label;
+    }
+
+    /**
+     * @param context A context used to get abbreviations
+     * @return A shared array of day abbreviations which must not be modified
+     */
+    public static String[] getDayAbbreviations(Context context) {
+        prepare(context);
+        return sDayAbbreviations;
+    }
+
+    public static void clear() {
+        sMonthAndYearLabels.clear();
+        sMonths = null;
+        sDayAbbreviations = null;
+        sLocale = null;
+    }
+
+    private static void prepare(Context context) {
+        // A default locale can be changed by an application without changing a configuration
+        if (sLocale != Locale.getDefault()) {
+            clear();
+        }
+
+        if (sMonths != null) {
+            return;
+        }
+
+        registerCallbacks(context);
+
+        sLocale = Locale.getDefault();
+        sMonths = context.getResources().getStringArray(R.array.material_calendar_months_array);
+        sDayAbbreviations = context.getResources().getStringArray(R.array.material_calendar_day_abbreviations_array);
+    }
+
+    private static void registerCallbacks(Context context) {
+        if (sCallbacksRegistered) {
+            return;
+        }
+
+        context.getApplicationContext().registerComponentCallbacks(new ComponentCallbacks() {
+            @Override
+            public void onConfigurationChanged(Configuration configuration) {
+                clear();
+            }
+
+            @Override
+            public void onLowMemory() {
+                sMonthAndYearLabels.clear();
+            }
+        });
+
+        sCallbacksRegistered = true;
+    }
+
+    private CalendarLabels() {
+    }
+}
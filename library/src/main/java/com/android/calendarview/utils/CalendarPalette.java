@@ -0,0 +1,77 @@
+package com.android.calendarview.utils;
+
+import android.content.Context;
+
+import androidx.core.content.ContextCompat;
+
+import com.android.calendarview.R;
+
+/**
+ * This class contains colors of day cells resolved from calendar properties. Default colors are
+ * read from resources once when the palette is created, so binding a cell only reads its fields.
+ * <p>
+ * A palette is immutable, CalendarProperties creates a new one when a color, a theme or a night
+ * mode changes.
+ * <p>
+ */
+
+public final class CalendarPalette {
+    private final int mSelectionColor;
+    private final int mSelectionLabelColor;
+    private final int mTodayColor;
+    private final int mTodayLabelColor;
+    private final int mDaysLabelsColor;
+    private final int mDisabledDaysLabelsColor;
+    private final int mHighlightedDaysLabelsColor;
+    private final int mAnotherMonthsDaysLabelsColor;
+
+    CalendarPalette(Context context, CalendarProperties calendarProperties) {
+        mSelectionColor = resolve(context, calendarProperties.getRawSelectionColor(), R.color.defaultColor);
+        mSelectionLabelColor = resolve(context, calendarProperties.getRawSelectionLabelColor(), android.R.color.white);
+        mTodayColor = calendarProperties.getTodayColor();
+        mTodayLabelColor = resolve(context, calendarProperties.getRawTodayLabelColor(), R.color.defaultColor);
+        mDaysLabelsColor = resolve(context, calendarProperties.getRawDaysLabelsColor(), R.color.currentMonthDayColor);
+        mDisabledDaysLabelsColor = resolve(context, calendarProperties.getRawDisabledDaysLabelsColor(), R.color.nextMonthDayColor);
+        mHighlightedDaysLabelsColor = resolve(context, calendarProperties.getRawHighlightedDaysLabelsColor(), R.color.nextMonthDayColor);
+        mAnotherMonthsDaysLabelsColor = resolve(context, calendarProperties.getRawAnotherMonthsDaysLabelsColor(), R.color.nextMonthDayColor);
+    }
+
+    public int getSelectionColor() {
+        return mSelectionColor;
+    }
+
+    public int getSelectionLabelColor() {
+        return mSelectionLabelColor;
+    }
+
+    /**
+     * @return A color of a today circle or 0 if today is marked by a default circle and a bold label
+     */
+    public int getTodayColor() {
+        return mTodayColor;
+    }
+
+    public int getTodayLabelColor() {
+        return mTodayLabelColor;
+    }
+
+    public int getDaysLabelsColor() {
+        return mDaysLabelsColor;
+    }
+
+    public int getDisabledDaysLabelsColor() {
+        return mDisabledDaysLabelsColor;
+    }
+
+    public int getHighlightedDaysLabelsColor() {
+        return mHighlightedDaysLabelsColor;
+    }
+
+    public int getAnotherMonthsDaysLabelsColor() {
+        return mAnotherMonthsDaysLabelsColor;
+    }
+
+    private static int resolve(Context context, int color, int defaultColorRes) {
+        return color != 0 ? color : ContextCompat.getColor(context, defaultColorRes);
+    }
+}
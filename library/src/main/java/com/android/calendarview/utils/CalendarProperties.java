@@ -7,13 +7,14 @@ import androidx.core.content.ContextCompat;
 
 import com.android.calendarview.CalendarView;
 import com.android.calendarview.EventDay;
-import com.android.calendarview.R;
 import com.android.calendarview.exceptions.ErrorsMessages;
 import com.android.calendarview.exceptions.UnsupportedMethodsException;
 import com.android.calendarview.listeners.OnCalendarPageChangeListener;
 import com.android.calendarview.listeners.OnDayClickListener;
+import com.android.calendarview.listeners.OnPageSettledListener;
 import com.android.calendarview.listeners.OnSelectDateListener;
 import com.android.calendarview.listeners.OnSelectionAbilityListener;
+import com.android.calendarview.listeners.OnVisibleRangeChangeListener;
 import com.annimon.stream.Stream;
 
 import java.util.ArrayList;
@@ -28,12 +29,19 @@ import java.util.List;
 public class CalendarProperties {
 
     /**
-     * A number of months (pages) in the calendar
-     * 2401 months means 1200 months (100 years) before and 1200 months after the current month
+     * A maximum number of months (pages) in the calendar
+     * 2401 months means 1200 months (100 years) before and 1200 months after the current month,
+     * pages are moved when the calendar is scrolled to their edge which is not a minimum or
+     * maximum date, so an unbounded calendar can be scrolled without any limit
      */
     public static final int CALENDAR_SIZE = 2401;
     public static final int FIRST_VISIBLE_PAGE = CALENDAR_SIZE / 2;
 
+    /**
+     * A default quiet period in milliseconds after scrolling, before a page is treated as settled
+     */
+    public static final long DEFAULT_PAGE_SETTLED_DELAY = 300;
+
     private int mCalendarType, mHeaderColor, mHeaderLabelColor, mSelectionColor, mTodayLabelColor, mTodayColor,
             mDialogButtonsColor, mItemLayoutResource, mDisabledDaysLabelsColor, mHighlightedDaysLabelsColor, mPagesColor,
             mAbbreviationsBarColor, mAbbreviationsLabelsColor, mDaysLabelsColor, mSelectionLabelColor,
@@ -41,22 +49,40 @@ public class CalendarProperties {
 
     private boolean mEventsEnabled;
     private boolean mSwipeEnabled;
+    private boolean mMonthViewEnabled;
+    private boolean mAsyncInflationEnabled;
 
     private Drawable mPreviousButtonSrc, mForwardButtonSrc;
+    private int mEventImagePlaceholder;
+    private DayBackgrounds mDayBackgrounds;
+    private CalendarPalette mPalette;
 
     private Calendar mFirstPageCalendarDate = DateUtils.getCalendar();
     private Calendar mCalendar, mMinimumDate, mMaximumDate;
+    private int mMinimumEpochDay = Integer.MIN_VALUE, mMaximumEpochDay = Integer.MAX_VALUE;
+    private int mMinimumMonthIndex = Integer.MIN_VALUE, mMaximumMonthIndex = Integer.MAX_VALUE;
+    private int mFirstPageMonthIndex = EpochDay.getMonthIndex(mFirstPageCalendarDate);
+    private int mPagesCount = CALENDAR_SIZE;
 
     private OnDayClickListener mOnDayClickListener;
     private OnSelectDateListener mOnSelectDateListener;
     private OnSelectionAbilityListener mOnSelectionAbilityListener;
     private OnCalendarPageChangeListener mOnPreviousPageChangeListener;
     private OnCalendarPageChangeListener mOnForwardPageChangeListener;
+    private OnPageSettledListener mOnPageSettledListener;
+    private long mPageSettledDelay = DEFAULT_PAGE_SETTLED_DELAY;
+    private OnVisibleRangeChangeListener mOnVisibleRangeChangeListener;
+    private int mPrefetchPagesCount = 1;
 
     private List<EventDay> mEventDays = new ArrayList<>();
-    private List<Calendar> mDisabledDays = new ArrayList<>();
-    private List<Calendar> mHighlightedDays = new ArrayList<>();
-    private List<SelectedDay> mSelectedDays = new ArrayList<>();
+    private EventDaysIndex mEventDaysIndex = EventDaysIndex.EMPTY;
+
+    // Days having events in both the list and the store, keyed by epoch days
+    private final EpochDayMap<MergedDayEvents> mMergedDayEvents = new EpochDayMap<>();
+    private EventStore mEventStore = new EventStore();
+    private DayMaskSet mDisabledDays = new DayMaskSet();
+    private DayMaskSet mHighlightedDays = new DayMaskSet();
+    private SelectedDays mSelectedDays = new SelectedDays();
 
     private Context mContext;
 
@@ -88,6 +114,30 @@ public class CalendarProperties {
         mSwipeEnabled = swipeEnabled;
     }
 
+    /**
+     * @return Boolean value if pages are drawn by single CalendarMonthView objects instead of
+     * GridViews of inflated day cells
+     */
+    public boolean getMonthViewEnabled() {
+        return mMonthViewEnabled;
+    }
+
+    public void setMonthViewEnabled(boolean monthViewEnabled) {
+        mMonthViewEnabled = monthViewEnabled;
+    }
+
+    /**
+     * @return Boolean value if GridViews of pages are inflated on a background thread and attached
+     * to pages when they are ready
+     */
+    public boolean getAsyncInflationEnabled() {
+        return mAsyncInflationEnabled;
+    }
+
+    public void setAsyncInflationEnabled(boolean asyncInflationEnabled) {
+        mAsyncInflationEnabled = asyncInflationEnabled;
+    }
+
     public Calendar getCalendar() {
         return mCalendar;
     }
@@ -145,27 +195,30 @@ public class CalendarProperties {
     }
 
     public int getSelectionColor() {
-        if (mSelectionColor == 0) {
-            return ContextCompat.getColor(mContext, R.color.defaultColor);
-        }
+        return getPalette().getSelectionColor();
+    }
 
+    int getRawSelectionColor() {
         return mSelectionColor;
     }
 
     public void setSelectionColor(int selectionColor) {
         mSelectionColor = selectionColor;
+        mPalette = null;
+        mDayBackgrounds = null;
     }
 
     public int getTodayLabelColor() {
-        if (mTodayLabelColor == 0) {
-            return ContextCompat.getColor(mContext, R.color.defaultColor);
-        }
+        return getPalette().getTodayLabelColor();
+    }
 
+    int getRawTodayLabelColor() {
         return mTodayLabelColor;
     }
 
     public void setTodayLabelColor(int todayLabelColor) {
         mTodayLabelColor = todayLabelColor;
+        mPalette = null;
     }
 
     public int getDialogButtonsColor() {
@@ -182,6 +235,8 @@ public class CalendarProperties {
 
     public void setMinimumDate(Calendar minimumDate) {
         mMinimumDate = minimumDate;
+        mMinimumEpochDay = minimumDate == null ? Integer.MIN_VALUE : EpochDay.of(minimumDate);
+        mMinimumMonthIndex = minimumDate == null ? Integer.MIN_VALUE : EpochDay.getMonthIndex(minimumDate);
     }
 
     public Calendar getMaximumDate() {
@@ -190,6 +245,30 @@ public class CalendarProperties {
 
     public void setMaximumDate(Calendar maximumDate) {
         mMaximumDate = maximumDate;
+        mMaximumEpochDay = maximumDate == null ? Integer.MAX_VALUE : EpochDay.of(maximumDate);
+        mMaximumMonthIndex = maximumDate == null ? Integer.MAX_VALUE : EpochDay.getMonthIndex(maximumDate);
+    }
+
+    /**
+     * @return A month index of the minimum date equal to year * 12 + month or Integer.MIN_VALUE
+     */
+    public int getMinimumMonthIndex() {
+        return mMinimumMonthIndex;
+    }
+
+    /**
+     * @return A month index of the maximum date equal to year * 12 + month or Integer.MAX_VALUE
+     */
+    public int getMaximumMonthIndex() {
+        return mMaximumMonthIndex;
+    }
+
+    /**
+     * @param epochDay Epoch day of the date
+     * @return Boolean value if the date is between minimum and maximum dates (inclusive)
+     */
+    public boolean isBetweenMinAndMax(int epochDay) {
+        return epochDay >= mMinimumEpochDay && epochDay <= mMaximumEpochDay;
     }
 
     public OnSelectionAbilityListener getOnSelectionAbilityListener() {
@@ -224,10 +303,92 @@ public class CalendarProperties {
         mOnForwardPageChangeListener = onForwardButtonClickListener;
     }
 
+    public OnPageSettledListener getOnPageSettledListener() {
+        return mOnPageSettledListener;
+    }
+
+    public void setOnPageSettledListener(OnPageSettledListener onPageSettledListener) {
+        mOnPageSettledListener = onPageSettledListener;
+    }
+
+    /**
+     * @return A quiet period in milliseconds after scrolling, before a page is treated as settled
+     */
+    public long getPageSettledDelay() {
+        return mPageSettledDelay;
+    }
+
+    public void setPageSettledDelay(long pageSettledDelay) {
+        mPageSettledDelay = pageSettledDelay;
+    }
+
+    public OnVisibleRangeChangeListener getOnVisibleRangeChangeListener() {
+        return mOnVisibleRangeChangeListener;
+    }
+
+    public void setOnVisibleRangeChangeListener(OnVisibleRangeChangeListener onVisibleRangeChangeListener) {
+        mOnVisibleRangeChangeListener = onVisibleRangeChangeListener;
+    }
+
+    /**
+     * @return A number of pages on each side of a current page included in a prefetch range
+     */
+    public int getPrefetchPagesCount() {
+        return mPrefetchPagesCount;
+    }
+
+    public void setPrefetchPagesCount(int prefetchPagesCount) {
+        mPrefetchPagesCount = prefetchPagesCount;
+    }
+
     public Calendar getFirstPageCalendarDate() {
         return mFirstPageCalendarDate;
     }
 
+    /**
+     * @return A month index of the first calendar page equal to year * 12 + month
+     */
+    public int getFirstPageMonthIndex() {
+        return mFirstPageMonthIndex;
+    }
+
+    /**
+     * @return A number of calendar pages, pages never exceed months of minimum and maximum dates
+     */
+    public int getPagesCount() {
+        return mPagesCount;
+    }
+
+    /**
+     * This method sets months of calendar pages, so the month is in the middle of them if minimum
+     * and maximum dates allow it. Pages start at the minimum month and end at the maximum month
+     * when the dates are set.
+     *
+     * @param monthIndex A month index equal to year * 12 + month, it is limited to months of
+     *                   minimum and maximum dates
+     * @return A position of the month page
+     */
+    public int setUpPages(int monthIndex) {
+        monthIndex = Math.max(mMinimumMonthIndex, Math.min(monthIndex, mMaximumMonthIndex));
+
+        int firstMonthIndex = Math.max(mMinimumMonthIndex, monthIndex - FIRST_VISIBLE_PAGE);
+        int lastMonthIndex = Math.max(monthIndex, Math.min(mMaximumMonthIndex, firstMonthIndex + CALENDAR_SIZE - 1));
+
+        // Pages cut by the maximum month are moved back, so a calendar has as many pages as possible
+        firstMonthIndex = Math.max(mMinimumMonthIndex, Math.min(firstMonthIndex, lastMonthIndex - CALENDAR_SIZE + 1));
+
+        setFirstPageMonthIndex(firstMonthIndex);
+        mPagesCount = lastMonthIndex - firstMonthIndex + 1;
+
+        return monthIndex - firstMonthIndex;
+    }
+
+    // The first page date is set to the first day of the month
+    private void setFirstPageMonthIndex(int monthIndex) {
+        mFirstPageMonthIndex = monthIndex;
+        mFirstPageCalendarDate.set(EpochDay.getYearOfMonth(monthIndex), EpochDay.getMonthOfMonth(monthIndex), 1);
+    }
+
     public OnDayClickListener getOnDayClickListener() {
         return mOnDayClickListener;
     }
@@ -241,36 +402,132 @@ public class CalendarProperties {
     }
 
     public void setEventDays(List<EventDay> eventDays) {
+        setEventDays(eventDays, new EventDaysIndex(eventDays));
+    }
+
+    /**
+     * @param eventDays      List of EventDay objects
+     * @param eventDaysIndex An index of the events which is already built
+     */
+    public void setEventDays(List<EventDay> eventDays, EventDaysIndex eventDaysIndex) {
         mEventDays = eventDays;
+        mEventDaysIndex = eventDaysIndex;
+        mMergedDayEvents.clear();
     }
 
-    public List<Calendar> getDisabledDays() {
+    /**
+     * @return An index of event days used to find events of calendar cells
+     */
+    public EventDaysIndex getEventDaysIndex() {
+        return mEventDaysIndex;
+    }
+
+    /**
+     * @return A store of events added one by one, events of a day are displayed after events of
+     * the same day set as a list
+     */
+    public EventStore getEventStore() {
+        return mEventStore;
+    }
+
+    /**
+     * @return Boolean value if any events were set as a list or added to the store
+     */
+    public boolean hasEventDays() {
+        return mEventDays != null || !mEventStore.isEmpty();
+    }
+
+    /**
+     * @param day Epoch day of the events
+     * @return All events of the day with their aggregates or null if there is no event, events set
+     * as a list are followed by events of the store
+     */
+    public DayEvents getDayEvents(int day) {
+        DayEvents listDayEvents = mEventDaysIndex.getDayEvents(day);
+        DayEvents storeDayEvents = mEventStore.getDayEvents(day);
+
+        if (listDayEvents == null || storeDayEvents == null) {
+            if (!mMergedDayEvents.isEmpty()) {
+                mMergedDayEvents.remove(day);
+            }
+
+            return listDayEvents != null ? listDayEvents : storeDayEvents;
+        }
+
+        // Both sources are immutable, so a merged day is reused until one of them is replaced
+        MergedDayEvents mergedDayEvents = mMergedDayEvents.get(day);
+
+        if (mergedDayEvents == null || mergedDayEvents.mListDayEvents != listDayEvents
+                || mergedDayEvents.mStoreDayEvents != storeDayEvents) {
+            mergedDayEvents = new MergedDayEvents(listDayEvents, storeDayEvents);
+            mMergedDayEvents.put(day, mergedDayEvents);
+        }
+
+        return mergedDayEvents.mDayEvents;
+    }
+
+    /**
+     * @param day Epoch day of the event
+     * @return The first event of the day or null if there is no event
+     */
+    public EventDay getEventDay(int day) {
+        DayEvents dayEvents = getDayEvents(day);
+        return dayEvents == null ? null : dayEvents.getFirstEventDay();
+    }
+
+    /**
+     * @param day Epoch day of the event
+     * @return The first event having the most common custom label color of the day or null if
+     * there is no such event
+     */
+    public EventDay getEventDayWithLabelColor(int day) {
+        DayEvents dayEvents = getDayEvents(day);
+        return dayEvents == null ? null : dayEvents.getLabelColorEventDay();
+    }
+
+    /**
+     * @return A drawable resource displayed until an event image set as an URI is loaded or 0
+     */
+    public int getEventImagePlaceholder() {
+        return mEventImagePlaceholder;
+    }
+
+    public void setEventImagePlaceholder(int eventImagePlaceholder) {
+        mEventImagePlaceholder = eventImagePlaceholder;
+    }
+
+    public DayMaskSet getDisabledDays() {
         return mDisabledDays;
     }
 
     public void setDisabledDays(List<Calendar> disabledDays) {
-        mSelectedDays.removeAll(disabledDays);
+        setDisabledDays(new DayMaskSet(disabledDays));
+    }
 
-        mDisabledDays = Stream.of(disabledDays)
-                .map(calendar -> {
-                    DateUtils.setMidnight(calendar);
-                    return calendar;
-                }).toList();
+    /**
+     * @param disabledDays A set of disabled days, it is used by the calendar without copying
+     */
+    public void setDisabledDays(DayMaskSet disabledDays) {
+        mDisabledDays = disabledDays;
+        mSelectedDays.removeAll(disabledDays);
     }
 
-    public List<Calendar> getHighlightedDays() {
+    public DayMaskSet getHighlightedDays() {
         return mHighlightedDays;
     }
 
     public void setHighlightedDays(List<Calendar> highlightedDays) {
-        mHighlightedDays = Stream.of(highlightedDays)
-                .map(calendar -> {
-                    DateUtils.setMidnight(calendar);
-                    return calendar;
-                }).toList();
+        setHighlightedDays(new DayMaskSet(highlightedDays));
+    }
+
+    /**
+     * @param highlightedDays A set of highlighted days, it is used by the calendar without copying
+     */
+    public void setHighlightedDays(DayMaskSet highlightedDays) {
+        mHighlightedDays = highlightedDays;
     }
 
-    public List<SelectedDay> getSelectedDays() {
+    public SelectedDays getSelectedDays() {
         return mSelectedDays;
     }
 
@@ -292,36 +549,40 @@ public class CalendarProperties {
             throw new UnsupportedMethodsException(ErrorsMessages.RANGE_PICKER_NOT_RANGE);
         }
 
-        mSelectedDays = Stream.of(selectedDays)
+        mSelectedDays.clear();
+
+        Stream.of(selectedDays)
                 .map(calendar -> {
                     DateUtils.setMidnight(calendar);
                     return new SelectedDay(calendar);
                 }).filterNot(value -> mDisabledDays.contains(value.getCalendar()))
-                .toList();
+                .forEach(mSelectedDays::add);
     }
 
     public int getDisabledDaysLabelsColor() {
-        if (mDisabledDaysLabelsColor == 0) {
-            return ContextCompat.getColor(mContext, R.color.nextMonthDayColor);
-        }
+        return getPalette().getDisabledDaysLabelsColor();
+    }
 
+    int getRawDisabledDaysLabelsColor() {
         return mDisabledDaysLabelsColor;
     }
 
     public void setDisabledDaysLabelsColor(int disabledDaysLabelsColor) {
         mDisabledDaysLabelsColor = disabledDaysLabelsColor;
+        mPalette = null;
     }
 
     public int getHighlightedDaysLabelsColor() {
-        if (mHighlightedDaysLabelsColor == 0) {
-            return ContextCompat.getColor(mContext, R.color.nextMonthDayColor);
-        }
+        return getPalette().getHighlightedDaysLabelsColor();
+    }
 
+    int getRawHighlightedDaysLabelsColor() {
         return mHighlightedDaysLabelsColor;
     }
 
     public void setHighlightedDaysLabelsColor(int highlightedDaysLabelsColor) {
         mHighlightedDaysLabelsColor = highlightedDaysLabelsColor;
+        mPalette = null;
     }
 
     public int getPagesColor() {
@@ -349,39 +610,42 @@ public class CalendarProperties {
     }
 
     public int getDaysLabelsColor() {
-        if (mDaysLabelsColor == 0) {
-            return ContextCompat.getColor(mContext, R.color.currentMonthDayColor);
-        }
+        return getPalette().getDaysLabelsColor();
+    }
 
+    int getRawDaysLabelsColor() {
         return mDaysLabelsColor;
     }
 
     public void setDaysLabelsColor(int daysLabelsColor) {
         mDaysLabelsColor = daysLabelsColor;
+        mPalette = null;
     }
 
     public int getSelectionLabelColor() {
-        if (mSelectionLabelColor == 0) {
-            return ContextCompat.getColor(mContext, android.R.color.white);
-        }
+        return getPalette().getSelectionLabelColor();
+    }
 
+    int getRawSelectionLabelColor() {
         return mSelectionLabelColor;
     }
 
     public void setSelectionLabelColor(int selectionLabelColor) {
         mSelectionLabelColor = selectionLabelColor;
+        mPalette = null;
     }
 
     public int getAnotherMonthsDaysLabelsColor() {
-        if (mAnotherMonthsDaysLabelsColor == 0) {
-            return ContextCompat.getColor(mContext, R.color.nextMonthDayColor);
-        }
+        return getPalette().getAnotherMonthsDaysLabelsColor();
+    }
 
+    int getRawAnotherMonthsDaysLabelsColor() {
         return mAnotherMonthsDaysLabelsColor;
     }
 
     public void setAnotherMonthsDaysLabelsColor(int anotherMonthsDaysLabelsColor) {
         mAnotherMonthsDaysLabelsColor = anotherMonthsDaysLabelsColor;
+        mPalette = null;
     }
 
     public int getHeaderVisibility() {
@@ -423,5 +687,54 @@ public class CalendarProperties {
 
     public void setTodayColor(int todayColor) {
         mTodayColor = todayColor;
+        mPalette = null;
+        mDayBackgrounds = null;
+    }
+
+    /**
+     * @return Backgrounds of day cells tinted with selection and today colors, their drawables are
+     * loaded once and copied for every cell until one of the colors changes
+     */
+    public DayBackgrounds getDayBackgrounds() {
+        if (mDayBackgrounds == null) {
+            mDayBackgrounds = new DayBackgrounds(mContext, getSelectionColor(), getTodayColor());
+        }
+
+        return mDayBackgrounds;
+    }
+
+    /**
+     * @return Colors of day cells with resolved default colors, they are resolved once and shared
+     * by all cells until one of the colors, a theme or a night mode changes
+     */
+    public CalendarPalette getPalette() {
+        if (mPalette == null) {
+            mPalette = new CalendarPalette(mContext, this);
+        }
+
+        return mPalette;
+    }
+
+    /**
+     * This method resolves colors and backgrounds again, e.g. after a night mode has changed
+     */
+    public void invalidatePalette() {
+        mPalette = null;
+        mDayBackgrounds = null;
+    }
+
+    /**
+     * This class keeps events of one day merged from the list and the store
+     */
+    private static final class MergedDayEvents {
+        private final DayEvents mListDayEvents;
+        private final DayEvents mStoreDayEvents;
+        private final DayEvents mDayEvents;
+
+        MergedDayEvents(DayEvents listDayEvents, DayEvents storeDayEvents) {
+            mListDayEvents = listDayEvents;
+            mStoreDayEvents = storeDayEvents;
+            mDayEvents = listDayEvents.concat(storeDayEvents);
+        }
     }
 }
@@ -0,0 +1,61 @@
+package com.android.calendarview.utils;
+
+import android.graphics.drawable.Drawable;
+
+/**
+ * This class keeps backgrounds of one day cell. A drawable can't be shared by many views, so every
+ * cell gets its own copies of tinted backgrounds from DayBackgrounds. A copy is created when a cell
+ * enters a state for the first time, so changing a state of a recycled cell only swaps a reference.
+ * <p>
+ * Copies are created again when the calendar replaces its DayBackgrounds, e.g. after its colors
+ * have changed.
+ * <p>
+ */
+
+public final class CellBackgrounds {
+    private DayBackgrounds mDayBackgrounds;
+    private Drawable mTransparent;
+    private Drawable mSelected;
+    private Drawable mToday;
+
+    public Drawable getTransparent(DayBackgrounds dayBackgrounds) {
+        update(dayBackgrounds);
+
+        if (mTransparent == null) {
+            mTransparent = dayBackgrounds.newTransparent();
+        }
+
+        return mTransparent;
+    }
+
+    public Drawable getSelected(DayBackgrounds dayBackgrounds) {
+        update(dayBackgrounds);
+
+        if (mSelected == null) {
+            mSelected = dayBackgrounds.newSelected();
+        }
+
+        return mSelected;
+    }
+
+    public Drawable getToday(DayBackgrounds dayBackgrounds) {
+        update(dayBackgrounds);
+
+        if (mToday == null) {
+            mToday = dayBackgrounds.newToday();
+        }
+
+        return mToday;
+    }
+
+    private void update(DayBackgrounds dayBackgrounds) {
+        if (dayBackgrounds == mDayBackgrounds) {
+            return;
+        }
+
+        mDayBackgrounds = dayBackgrounds;
+        mTransparent = null;
+        mSelected = null;
+        mToday = null;
+    }
+}
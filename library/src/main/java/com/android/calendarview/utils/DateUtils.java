@@ -3,7 +3,6 @@ package com.android.calendarview.utils;
 import android.content.Context;
 
 import com.annimon.stream.Stream;
-import com.android.calendarview.R;
 
 import java.util.Calendar;
 import java.util.List;
@@ -47,14 +46,7 @@ public class DateUtils {
             return false;
         }
 
-        Calendar firstDay = (Calendar) firstCalendar.clone();
-        setMidnight(firstDay);
-        firstDay.set(Calendar.DAY_OF_MONTH, 1);
-        Calendar secondDay = (Calendar) secondCalendar.clone();
-        setMidnight(secondDay);
-        secondDay.set(Calendar.DAY_OF_MONTH, 1);
-
-        return secondDay.before(firstDay);
+        return EpochDay.getMonthIndex(secondCalendar) < EpochDay.getMonthIndex(firstCalendar);
     }
 
     /**
@@ -69,14 +61,7 @@ public class DateUtils {
             return false;
         }
 
-        Calendar firstDay = (Calendar) firstCalendar.clone();
-        setMidnight(firstDay);
-        firstDay.set(Calendar.DAY_OF_MONTH, 1);
-        Calendar secondDay = (Calendar) secondCalendar.clone();
-        setMidnight(secondDay);
-        secondDay.set(Calendar.DAY_OF_MONTH, 1);
-
-        return secondDay.after(firstDay);
+        return EpochDay.getMonthIndex(secondCalendar) > EpochDay.getMonthIndex(firstCalendar);
     }
 
     /**
@@ -89,9 +74,17 @@ public class DateUtils {
      * @return A string of the formatted date containing a month's name and a year (in number)
      */
     public static String getMonthAndYearDate(Context context, Calendar calendar) {
-        return String.format("%s  %s",
-                context.getResources().getStringArray(R.array.material_calendar_months_array)[calendar.get(Calendar.MONTH)],
-                calendar.get(Calendar.YEAR));
+        return CalendarLabels.getMonthAndYearLabel(context, EpochDay.getMonthIndex(calendar));
+    }
+
+    /**
+     * @param context    A context used to get names of months
+     * @param monthIndex A month index equal to year * 12 + month
+     * @return A string of the formatted month containing a month's name and a year (in number)
+     * @see #getMonthAndYearDate(Context, Calendar)
+     */
+    public static String getMonthAndYearDate(Context context, int monthIndex) {
+        return CalendarLabels.getMonthAndYearLabel(context, monthIndex);
     }
 
     /**
@@ -0,0 +1,77 @@
+package com.android.calendarview.utils;
+
+import android.content.Context;
+import android.graphics.PorterDuff;
+import android.graphics.drawable.Drawable;
+
+import androidx.core.content.ContextCompat;
+
+import com.android.calendarview.R;
+
+/**
+ * This class creates backgrounds of day cells tinted with colors of one calendar. Drawables are
+ * loaded from resources once and every cell gets its own mutated copy sharing their constant
+ * state, because a drawable can't be shared by many views. A tint of a copy doesn't change
+ * drawables loaded from the same resource anywhere else.
+ * <p>
+ */
+
+public final class DayBackgrounds {
+
+    private final Drawable mTransparent;
+    private final Drawable mSelected;
+    private final Drawable mToday;
+
+    private final int mSelectionColor;
+    private final int mTodayColor;
+
+    /**
+     * @param context        A context used to load drawables
+     * @param selectionColor A color of a selection circle
+     * @param todayColor     A color of a today circle or 0 to keep the default white circle
+     */
+    DayBackgrounds(Context context, int selectionColor, int todayColor) {
+        mTransparent = ContextCompat.getDrawable(context, R.drawable.background_transparent);
+        mSelected = ContextCompat.getDrawable(context, R.drawable.background_color_circle_selector);
+        mToday = ContextCompat.getDrawable(context, R.drawable.background_color_circle_selector_today);
+
+        mSelectionColor = selectionColor;
+        mTodayColor = todayColor;
+    }
+
+    /**
+     * @return A new background of a day cell without any circle
+     */
+    public Drawable newTransparent() {
+        return newCopy(mTransparent);
+    }
+
+    /**
+     * @return A new background of a selected day cell
+     */
+    public Drawable newSelected() {
+        Drawable selected = newCopy(mSelected);
+        selected.setColorFilter(mSelectionColor, PorterDuff.Mode.MULTIPLY);
+        return selected;
+    }
+
+    /**
+     * @return A new background of a today cell
+     */
+    public Drawable newToday() {
+        Drawable today = newCopy(mToday);
+
+        if (mTodayColor != 0) {
+            today.setColorFilter(mTodayColor, PorterDuff.Mode.MULTIPLY);
+        }
+
+        return today;
+    }
+
+    // A color filter of a container drawable is not a part of its constant state on older devices,
+    // so copies are tinted one by one
+    private static Drawable newCopy(Drawable drawable) {
+        Drawable.ConstantState constantState = drawable.getConstantState();
+        return (constantState == null ? drawable : constantState.newDrawable()).mutate();
+    }
+}
@@ -1,12 +1,13 @@
 package com.android.calendarview.utils;
 
 import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
 import android.view.View;
 import android.widget.TextView;
 
-import com.android.calendarview.R;
+import androidx.core.view.ViewCompat;
 
-import java.util.Calendar;
+import com.android.calendarview.EventDay;
 
 /**
  * This class is used to set a style of calendar cells.
@@ -21,17 +22,24 @@ public class DayColorsUtils {
      * It is used to set day cell (numbers) style.
      *
      * @param textView   TextView containing a day number
-     * @param textColor  A resource of a color of the day number
+     * @param dayCell    A view of the day cell, if it is null the background is set to the TextView
+     * @param textColor  A color of the day number
      * @param typeface   A type of text style, can be set as NORMAL or BOLD
-     * @param background A resource of a background drawable
+     * @param background A background drawable of this cell from CellBackgrounds
      */
-    public static void setDayColors(TextView textView, View dayCell, int textColor, int typeface, int background) {
+    public static void setDayColors(TextView textView, View dayCell, int textColor, int typeface, Drawable background) {
         if (textView == null) {
             return;
         }
+
         textView.setTypeface(null, typeface);
-        textView.setTextColor(textColor);
-        dayCell.setBackgroundResource(background);
+
+        // Setting the same color again would create a new ColorStateList
+        if (textView.getCurrentTextColor() != textColor) {
+            textView.setTextColor(textColor);
+        }
+
+        ViewCompat.setBackground(dayCell != null ? dayCell : textView, background);
     }
 
     /**
@@ -40,11 +48,12 @@ public class DayColorsUtils {
      * the picker mode). It also colors a background of the selection.
      *
      * @param dayLabel           TextView containing a day number
+     * @param cellBackgrounds    Backgrounds of the day cell
      * @param calendarProperties A resource of a selection background color
      */
-    public static void setSelectedDayColors(TextView dayLabel, View dayCell, CalendarProperties calendarProperties) {
-        setDayColors(dayLabel, dayCell, calendarProperties.getDaysLabelsColor(), Typeface.NORMAL, R.drawable.background_color_circle_selector);
-        setDayBackgroundColor(dayCell, calendarProperties.getSelectionColor());
+    public static void setSelectedDayColors(TextView dayLabel, View dayCell, CellBackgrounds cellBackgrounds, CalendarProperties calendarProperties) {
+        setDayColors(dayLabel, dayCell, calendarProperties.getPalette().getDaysLabelsColor(), Typeface.NORMAL,
+                cellBackgrounds.getSelected(calendarProperties.getDayBackgrounds()));
     }
 
     /**
@@ -53,46 +62,52 @@ public class DayColorsUtils {
      * setDayColors() method. It also checks if a day number is a day number of today and set it
      * a different color and bold face type.
      *
-     * @param day                A calendar instance representing day date
-     * @param today              A calendar instance representing today date
+     * @param day                Epoch day representing day date
+     * @param today              Epoch day representing today date
      * @param dayLabel           TextView containing a day numberx
+     * @param cellBackgrounds    Backgrounds of the day cell
      * @param calendarProperties A resource of a color used to mark today day
      */
-    public static void setCurrentMonthDayColors(Calendar day, Calendar today, TextView dayLabel, View dayCell, CalendarProperties calendarProperties) {
-        if (today.equals(day)) {
-            setTodayColors(dayLabel, dayCell, calendarProperties);
+    public static void setCurrentMonthDayColors(int day, int today, TextView dayLabel, View dayCell, CellBackgrounds cellBackgrounds, CalendarProperties calendarProperties) {
+        if (today == day) {
+            setTodayColors(dayLabel, dayCell, cellBackgrounds, calendarProperties);
         } else if (EventDayUtils.isEventDayWithLabelColor(day, calendarProperties)) {
-            setEventDayColors(day, dayLabel, dayCell, calendarProperties);
+            setEventDayColors(day, dayLabel, dayCell, cellBackgrounds, calendarProperties);
         } else if (calendarProperties.getHighlightedDays().contains(day)) {
-            setHighlightedDayColors(dayLabel, dayCell, calendarProperties);
+            setHighlightedDayColors(dayLabel, dayCell, cellBackgrounds, calendarProperties);
         } else {
-            setNormalDayColors(dayLabel, dayCell, calendarProperties);
+            setNormalDayColors(dayLabel, dayCell, cellBackgrounds, calendarProperties);
         }
     }
 
-    private static void setTodayColors(TextView dayLabel, View dayCell, CalendarProperties calendarProperties) {
-        setDayColors(dayLabel, dayCell, calendarProperties.getTodayLabelColor(), Typeface.BOLD, R.drawable.background_color_circle_selector_today);
+    private static void setTodayColors(TextView dayLabel, View dayCell, CellBackgrounds cellBackgrounds, CalendarProperties calendarProperties) {
+        Drawable background = cellBackgrounds.getToday(calendarProperties.getDayBackgrounds());
+
         // Sets custom background color for present
-        if (calendarProperties.getTodayColor() != 0) {
-            setDayColors(dayLabel, dayCell, calendarProperties.getSelectionLabelColor(), Typeface.NORMAL, R.drawable.background_color_circle_selector_today);
-            setDayBackgroundColor(dayCell, calendarProperties.getTodayColor());
+        if (calendarProperties.getPalette().getTodayColor() != 0) {
+            setDayColors(dayLabel, dayCell, calendarProperties.getPalette().getSelectionLabelColor(), Typeface.NORMAL, background);
+            return;
         }
-    }
 
-    private static void setEventDayColors(Calendar day, TextView dayLabel, View dayCell, CalendarProperties calendarProperties) {
-        EventDayUtils.getEventDayWithLabelColor(day, calendarProperties).executeIfPresent(eventDay ->
-                DayColorsUtils.setDayColors(dayLabel, dayCell, eventDay.getLabelColor(), Typeface.NORMAL, R.drawable.background_transparent));
+        setDayColors(dayLabel, dayCell, calendarProperties.getPalette().getTodayLabelColor(), Typeface.BOLD, background);
     }
 
-    private static void setHighlightedDayColors(TextView dayLabel, View dayCell, CalendarProperties calendarProperties) {
-        setDayColors(dayLabel, dayCell, calendarProperties.getHighlightedDaysLabelsColor(), Typeface.NORMAL, R.drawable.background_transparent);
+    private static void setEventDayColors(int day, TextView dayLabel, View dayCell, CellBackgrounds cellBackgrounds, CalendarProperties calendarProperties) {
+        EventDay eventDay = EventDayUtils.getEventDayWithLabelColor(day, calendarProperties);
+
+        if (eventDay != null) {
+            setDayColors(dayLabel, dayCell, eventDay.getLabelColor(), Typeface.NORMAL,
+                    cellBackgrounds.getTransparent(calendarProperties.getDayBackgrounds()));
+        }
     }
 
-    private static void setNormalDayColors(TextView dayLabel, View dayCell, CalendarProperties calendarProperties) {
-        setDayColors(dayLabel, dayCell, calendarProperties.getDaysLabelsColor(), Typeface.NORMAL, R.drawable.background_transparent);
+    private static void setHighlightedDayColors(TextView dayLabel, View dayCell, CellBackgrounds cellBackgrounds, CalendarProperties calendarProperties) {
+        setDayColors(dayLabel, dayCell, calendarProperties.getPalette().getHighlightedDaysLabelsColor(), Typeface.NORMAL,
+                cellBackgrounds.getTransparent(calendarProperties.getDayBackgrounds()));
     }
 
-    private static void setDayBackgroundColor(View dayCell, int color) {
-        dayCell.getBackground().setColorFilter(color, android.graphics.PorterDuff.Mode.MULTIPLY);
+    private static void setNormalDayColors(TextView dayLabel, View dayCell, CellBackgrounds cellBackgrounds, CalendarProperties calendarProperties) {
+        setDayColors(dayLabel, dayCell, calendarProperties.getPalette().getDaysLabelsColor(), Typeface.NORMAL,
+                cellBackgrounds.getTransparent(calendarProperties.getDayBackgrounds()));
     }
 }
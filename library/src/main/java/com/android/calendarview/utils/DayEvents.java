@@ -0,0 +1,161 @@
+package com.android.calendarview.utils;
+
+import com.android.calendarview.EventDay;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class contains all events of one day and aggregates computed when an index of events is
+ * built, so a calendar cell reads a number of events, its label color and images without scanning
+ * the events.
+ * <p>
+ */
+
+public final class DayEvents {
+
+    /**
+     * A maximum number of event images displayed in one day cell
+     */
+    public static final int MAX_INDICATORS = 3;
+
+    private final List<EventDay> mEventDays;
+    private final EventDay mLabelColorEventDay;
+    private final Object[] mIndicators;
+
+    /**
+     * @param eventDays List of EventDay objects of one day, in the order they were set
+     */
+    DayEvents(List<EventDay> eventDays) {
+        mEventDays = Collections.unmodifiableList(eventDays);
+        mLabelColorEventDay = findDominantLabelColorEventDay(eventDays);
+        mIndicators = findIndicators(eventDays);
+    }
+
+    /**
+     * @return An unmodifiable list of all events of the day
+     */
+    public List<EventDay> getEventDays() {
+        return mEventDays;
+    }
+
+    public int getCount() {
+        return mEventDays.size();
+    }
+
+    /**
+     * @return The first event of the day
+     */
+    public EventDay getFirstEventDay() {
+        return mEventDays.get(0);
+    }
+
+    /**
+     * @return The first event having the most common custom label color of the day or null if
+     * no event has a custom label color
+     */
+    public EventDay getLabelColorEventDay() {
+        return mLabelColorEventDay;
+    }
+
+    /**
+     * @return The most common custom label color of the day or 0
+     */
+    public int getLabelColor() {
+        return mLabelColorEventDay == null ? 0 : mLabelColorEventDay.getLabelColor();
+    }
+
+    /**
+     * @return A number of distinct event images, not greater than MAX_INDICATORS
+     */
+    public int getIndicatorsCount() {
+        return mIndicators.length;
+    }
+
+    /**
+     * @param position A position of the image, counted from 0
+     * @return A drawable, drawable resource or URI of the image
+     */
+    public Object getIndicator(int position) {
+        return mIndicators[position];
+    }
+
+    /**
+     * @param dayEvents Events of the same day from another source
+     * @return A new object containing events of this object followed by events of the other one,
+     * aggregates are computed over all of them
+     */
+    DayEvents concat(DayEvents dayEvents) {
+        List<EventDay> eventDays = new ArrayList<>(getCount() + dayEvents.getCount());
+        eventDays.addAll(mEventDays);
+        eventDays.addAll(dayEvents.mEventDays);
+
+        return new DayEvents(eventDays);
+    }
+
+    /**
+     * @param dayEvents Events of the same day from another index
+     * @return Boolean value if both objects contain the same events in the same order
+     */
+    boolean hasSameEventDays(DayEvents dayEvents) {
+        if (dayEvents == null || dayEvents.getCount() != getCount()) {
+            return false;
+        }
+
+        for (int index = 0; index < mEventDays.size(); index++) {
+            if (mEventDays.get(index) != dayEvents.mEventDays.get(index)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    // Days have only a few events, so colors are counted without any map
+    private static EventDay findDominantLabelColorEventDay(List<EventDay> eventDays) {
+        EventDay dominantEventDay = null;
+        int dominantCount = 0;
+
+        for (int index = 0; index < eventDays.size(); index++) {
+            int labelColor = eventDays.get(index).getLabelColor();
+
+            if (labelColor == 0 || (dominantEventDay != null && dominantEventDay.getLabelColor() == labelColor)) {
+                continue;
+            }
+
+            int count = 0;
+
+            for (int next = index; next < eventDays.size(); next++) {
+                if (eventDays.get(next).getLabelColor() == labelColor) {
+                    count++;
+                }
+            }
+
+            if (count > dominantCount) {
+                dominantEventDay = eventDays.get(index);
+                dominantCount = count;
+            }
+        }
+
+        return dominantEventDay;
+    }
+
+    private static Object[] findIndicators(List<EventDay> eventDays) {
+        List<Object> indicators = new ArrayList<>(MAX_INDICATORS);
+
+        for (EventDay eventDay : eventDays) {
+            Object image = eventDay.getImageDrawable();
+
+            if (image != null && !indicators.contains(image)) {
+                indicators.add(image);
+            }
+
+            if (indicators.size() == MAX_INDICATORS) {
+                break;
+            }
+        }
+
+        return indicators.toArray();
+    }
+}
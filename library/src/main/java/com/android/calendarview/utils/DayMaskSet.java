@@ -0,0 +1,302 @@
+package com.android.calendarview.utils;
+
+import android.util.SparseIntArray;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * This class represents a set of days stored as one bitmask per month. A month is identified by
+ * an index equal to year * 12 + month, bit n - 1 of its mask is set when day n of the month
+ * belongs to the set. Membership checks are a lookup of the month followed by a shift and test.
+ * <p>
+ */
+
+public class DayMaskSet {
+    private final SparseIntArray mMonthMasks = new SparseIntArray();
+
+    public DayMaskSet() {
+    }
+
+    /**
+     * @param days List of Calendar objects which will be added to the set
+     */
+    public DayMaskSet(List<Calendar> days) {
+        addAll(days);
+    }
+
+    /**
+     * @param year       A year of the day
+     * @param month      A month of the day, counted from 0 like in the Calendar class
+     * @param dayOfMonth A day of month, counted from 1
+     * @return Boolean value if the day belongs to the set
+     */
+    public boolean contains(int year, int month, int dayOfMonth) {
+        return (mMonthMasks.get(getMonthIndex(year, month)) & (1 << (dayOfMonth - 1))) != 0;
+    }
+
+    public boolean contains(Calendar day) {
+        return day != null && contains(day.get(Calendar.YEAR), day.get(Calendar.MONTH), day.get(Calendar.DAY_OF_MONTH));
+    }
+
+    /**
+     * @param epochDay Epoch day of the day
+     * @return Boolean value if the day belongs to the set
+     */
+    public boolean contains(int epochDay) {
+        return (mMonthMasks.get(EpochDay.getMonthIndex(epochDay)) & (1 << (EpochDay.getDayOfMonth(epochDay) - 1))) != 0;
+    }
+
+    public void add(int year, int month, int dayOfMonth) {
+        addMonthMask(getMonthIndex(year, month), 1 << (dayOfMonth - 1));
+    }
+
+    public void add(Calendar day) {
+        add(day.get(Calendar.YEAR), day.get(Calendar.MONTH), day.get(Calendar.DAY_OF_MONTH));
+    }
+
+    /**
+     * @param epochDay Epoch day of the day which will be added
+     */
+    public void add(int epochDay) {
+        addMonthMask(EpochDay.getMonthIndex(epochDay), 1 << (EpochDay.getDayOfMonth(epochDay) - 1));
+    }
+
+    /**
+     * This method adds all days between two dates using one mask per month
+     *
+     * @param firstEpochDay Epoch day of the first date (inclusive)
+     * @param lastEpochDay  Epoch day of the last date (inclusive)
+     */
+    public void addRange(int firstEpochDay, int lastEpochDay) {
+        if (lastEpochDay < firstEpochDay) {
+            return;
+        }
+
+        int firstMonthIndex = EpochDay.getMonthIndex(firstEpochDay);
+        int lastMonthIndex = EpochDay.getMonthIndex(lastEpochDay);
+
+        for (int monthIndex = firstMonthIndex; monthIndex <= lastMonthIndex; monthIndex++) {
+            int mask = -1;
+
+            if (monthIndex == firstMonthIndex) {
+                mask &= -1 << (EpochDay.getDayOfMonth(firstEpochDay) - 1);
+            }
+
+            if (monthIndex == lastMonthIndex) {
+                mask &= -1 >>> (32 - EpochDay.getDayOfMonth(lastEpochDay));
+            }
+
+            addMonthMask(monthIndex, mask);
+        }
+    }
+
+    public void addAll(List<Calendar> days) {
+        for (Calendar day : days) {
+            add(day);
+        }
+    }
+
+    public void remove(int year, int month, int dayOfMonth) {
+        removeMonthMask(getMonthIndex(year, month), 1 << (dayOfMonth - 1));
+    }
+
+    public void remove(Calendar day) {
+        remove(day.get(Calendar.YEAR), day.get(Calendar.MONTH), day.get(Calendar.DAY_OF_MONTH));
+    }
+
+    /**
+     * This method adds days of the month described by the mask
+     *
+     * @param monthIndex A month index equal to year * 12 + month
+     * @param mask       A mask of days, bit n - 1 represents day n of the month
+     */
+    public void addMonthMask(int monthIndex, int mask) {
+        mask &= getFullMonthMask(monthIndex);
+
+        if (mask != 0) {
+            mMonthMasks.put(monthIndex, mMonthMasks.get(monthIndex) | mask);
+        }
+    }
+
+    /**
+     * This method removes days of the month described by the mask
+     *
+     * @param monthIndex A month index equal to year * 12 + month
+     * @param mask       A mask of days, bit n - 1 represents day n of the month
+     */
+    public void removeMonthMask(int monthIndex, int mask) {
+        int index = mMonthMasks.indexOfKey(monthIndex);
+
+        if (index < 0) {
+            return;
+        }
+
+        int monthMask = mMonthMasks.valueAt(index) & ~mask;
+
+        if (monthMask == 0) {
+            mMonthMasks.removeAt(index);
+        } else {
+            mMonthMasks.put(monthIndex, monthMask);
+        }
+    }
+
+    /**
+     * @param monthIndex A month index equal to year * 12 + month
+     * @return A mask of days of the month which belong to the set
+     */
+    public int getMonthMask(int monthIndex) {
+        return mMonthMasks.get(monthIndex);
+    }
+
+    /**
+     * This method adds all days of the week between two months, e.g. all weekends of a few years
+     *
+     * @param firstMonthIndex A first month index (inclusive)
+     * @param lastMonthIndex  A last month index (inclusive)
+     * @param dayOfWeek       A day of the week like Calendar.SATURDAY
+     */
+    public void addDayOfWeek(int firstMonthIndex, int lastMonthIndex, int dayOfWeek) {
+        for (int monthIndex = firstMonthIndex; monthIndex <= lastMonthIndex; monthIndex++) {
+            int firstDay = dayOfWeek - EpochDay.getFirstDayOfWeekOfMonth(monthIndex);
+
+            if (firstDay < 0) {
+                firstDay += 7;
+            }
+
+            // Every seventh bit starting from the first occurrence of the day of the week
+            addMonthMask(monthIndex, 0x10204081 << firstDay);
+        }
+    }
+
+    /**
+     * This method adds all days of the other set to this set
+     *
+     * @param daySet A set which days will be added
+     */
+    public void addAll(DayMaskSet daySet) {
+        for (int index = 0; index < daySet.mMonthMasks.size(); index++) {
+            addMonthMask(daySet.mMonthMasks.keyAt(index), daySet.mMonthMasks.valueAt(index));
+        }
+    }
+
+    /**
+     * This method removes all days of the other set from this set
+     *
+     * @param daySet A set which days will be removed
+     */
+    public void removeAll(DayMaskSet daySet) {
+        for (int index = 0; index < daySet.mMonthMasks.size(); index++) {
+            removeMonthMask(daySet.mMonthMasks.keyAt(index), daySet.mMonthMasks.valueAt(index));
+        }
+    }
+
+    /**
+     * This method compares two sets, it lets to refresh only calendar pages which display
+     * changed days
+     *
+     * @param daySet A set which will be compared with this one
+     * @return A set of days which belong to only one of the sets
+     */
+    public DayMaskSet getChangedDays(DayMaskSet daySet) {
+        DayMaskSet changedDays = new DayMaskSet();
+
+        for (int index = 0; index < mMonthMasks.size(); index++) {
+            int monthIndex = mMonthMasks.keyAt(index);
+            changedDays.addMonthMask(monthIndex, mMonthMasks.valueAt(index) ^ daySet.getMonthMask(monthIndex));
+        }
+
+        for (int index = 0; index < daySet.mMonthMasks.size(); index++) {
+            int monthIndex = daySet.mMonthMasks.keyAt(index);
+            changedDays.addMonthMask(monthIndex, daySet.mMonthMasks.valueAt(index) ^ getMonthMask(monthIndex));
+        }
+
+        return changedDays;
+    }
+
+    public void clear() {
+        mMonthMasks.clear();
+    }
+
+    public boolean isEmpty() {
+        return mMonthMasks.size() == 0;
+    }
+
+    /**
+     * @return A number of days in the set
+     */
+    public int size() {
+        int size = 0;
+
+        for (int index = 0; index < mMonthMasks.size(); index++) {
+            size += Integer.bitCount(mMonthMasks.valueAt(index));
+        }
+
+        return size;
+    }
+
+    /**
+     * This method counts days of the set between two dates using one bit count per month
+     *
+     * @param firstEpochDay Epoch day of the first date (inclusive)
+     * @param lastEpochDay  Epoch day of the last date (inclusive)
+     * @return A number of days of the set between the dates
+     */
+    public int count(int firstEpochDay, int lastEpochDay) {
+        if (isEmpty() || lastEpochDay < firstEpochDay) {
+            return 0;
+        }
+
+        int firstMonthIndex = EpochDay.getMonthIndex(firstEpochDay);
+        int lastMonthIndex = EpochDay.getMonthIndex(lastEpochDay);
+        int count = 0;
+
+        for (int monthIndex = firstMonthIndex; monthIndex <= lastMonthIndex; monthIndex++) {
+            int mask = mMonthMasks.get(monthIndex);
+
+            if (monthIndex == firstMonthIndex) {
+                mask &= -1 << (EpochDay.getDayOfMonth(firstEpochDay) - 1);
+            }
+
+            if (monthIndex == lastMonthIndex) {
+                mask &= -1 >>> (32 - EpochDay.getDayOfMonth(lastEpochDay));
+            }
+
+            count += Integer.bitCount(mask);
+        }
+
+        return count;
+    }
+
+    /**
+     * This method creates Calendar objects of all days in the set, so it should be used only
+     * at the edge of the public API
+     *
+     * @return Sorted list of Calendar objects set to midnight
+     */
+    public List<Calendar> toCalendarList() {
+        List<Calendar> days = new ArrayList<>();
+
+        for (int index = 0; index < mMonthMasks.size(); index++) {
+            int monthIndex = mMonthMasks.keyAt(index);
+            int mask = mMonthMasks.valueAt(index);
+
+            while (mask != 0) {
+                days.add(EpochDay.toCalendar(EpochDay.ofMonth(monthIndex, Integer.numberOfTrailingZeros(mask) + 1)));
+
+                mask &= mask - 1;
+            }
+        }
+
+        return days;
+    }
+
+    private static int getMonthIndex(int year, int month) {
+        return year * 12 + month;
+    }
+
+    private static int getFullMonthMask(int monthIndex) {
+        return (1 << EpochDay.getDaysInMonth(monthIndex)) - 1;
+    }
+}
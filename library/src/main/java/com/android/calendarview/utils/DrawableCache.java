@@ -0,0 +1,246 @@
+package com.android.calendarview.utils;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.net.Uri;
+import android.os.Build;
+import android.util.LruCache;
+
+import androidx.core.content.ContextCompat;
+
+/**
+ * This class keeps event images loaded from drawable resources, so the same image is decoded
+ * once for all pages and cells. Images are rendered to bitmaps no larger than a target size and
+ * the bitmaps are evicted in LRU order when a byte budget is exceeded. A new drawable sharing
+ * a cached bitmap is returned for every view, because a drawable can't be used by many views.
+ * Views drawing images on their canvas read shared bitmaps instead, which allocates nothing when
+ * an image is cached.
+ * <p>
+ * Images decoded from files and content URIs by EventImageLoader share the same budget.
+ * The cache is used only on the main thread.
+ * <p>
+ */
+
+public final class DrawableCache {
+
+    // A part of the maximum heap size used by the cache
+    private static final int MEMORY_FRACTION = 64;
+
+    private static final LruCache<ImageKey, Bitmap> sCache =
+            new LruCache<ImageKey, Bitmap>((int) Math.min(Runtime.getRuntime().maxMemory() / MEMORY_FRACTION, Integer.MAX_VALUE)) {
+                @Override
+                protected int sizeOf(ImageKey key, Bitmap bitmap) {
+                    return bitmap.getRowBytes() * bitmap.getHeight();
+                }
+            };
+
+    // Lookups reuse one key, so reading a cached image doesn't allocate
+    private static final ImageKey sLookupKey = new ImageKey();
+
+    private static boolean sCallbacksRegistered;
+
+    /**
+     * @param context     A context used to load the resource
+     * @param drawableRes A drawable resource of the image
+     * @param maxSize     A maximum width and height of the image in pixels, larger images are scaled
+     *                    down keeping their aspect ratio
+     * @return A new drawable of the image or null if the resource can't be loaded
+     */
+    public static Drawable get(Context context, int drawableRes, int maxSize) {
+        Bitmap bitmap = getBitmap(context, drawableRes, maxSize);
+
+        // Images without any size, like colors, can't be rendered to a bitmap
+        if (bitmap == null) {
+            return ContextCompat.getDrawable(context, drawableRes);
+        }
+
+        return new BitmapDrawable(context.getResources(), bitmap);
+    }
+
+    /**
+     * @param context     A context used to load the resource
+     * @param drawableRes A drawable resource of the image
+     * @param maxSize     A maximum width and height of the image in pixels
+     * @return A shared bitmap of the image which mustn't be changed, or null if the resource can't
+     * be loaded or it has no size
+     */
+    public static Bitmap getBitmap(Context context, int drawableRes, int maxSize) {
+        registerCallbacks(context);
+
+        Bitmap bitmap = sCache.get(sLookupKey.set(drawableRes, null, maxSize));
+
+        if (bitmap == null) {
+            Drawable drawable = ContextCompat.getDrawable(context, drawableRes);
+            bitmap = drawable == null ? null : toBitmap(drawable, maxSize);
+
+            if (bitmap != null) {
+                sCache.put(new ImageKey().set(drawableRes, null, maxSize), bitmap);
+            }
+        }
+
+        return bitmap;
+    }
+
+    static Bitmap getBitmap(Uri uri, int maxSize) {
+        return sCache.get(sLookupKey.set(0, uri, maxSize));
+    }
+
+    static void putBitmap(Context context, Uri uri, int maxSize, Bitmap bitmap) {
+        registerCallbacks(context);
+        sCache.put(new ImageKey().set(0, uri, maxSize), bitmap);
+    }
+
+    /**
+     * @return A number of images returned from the cache
+     */
+    public static int getHitCount() {
+        return sCache.hitCount();
+    }
+
+    /**
+     * @return A number of images which had to be loaded from resources
+     */
+    public static int getMissCount() {
+        return sCache.missCount();
+    }
+
+    /**
+     * @return A number of bytes used by cached images
+     */
+    public static int getSize() {
+        return sCache.size();
+    }
+
+    /**
+     * @return A maximum number of bytes used by cached images
+     */
+    public static int getMaxSize() {
+        return sCache.maxSize();
+    }
+
+    public static void clear() {
+        sCache.evictAll();
+        EventImageLoader.clearFailures();
+    }
+
+    /**
+     * This method releases cached images depending on a memory level passed to onTrimMemory()
+     *
+     * @param level A memory level like ComponentCallbacks2.TRIM_MEMORY_MODERATE
+     */
+    public static void trimMemory(int level) {
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_MODERATE) {
+            clear();
+        } else if (level >= ComponentCallbacks2.TRIM_MEMORY_BACKGROUND
+                || level == ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW) {
+            trimToHalf();
+        }
+    }
+
+    private static void trimToHalf() {
+        // LruCache.trimToSize() is public since API 17
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+            sCache.trimToSize(sCache.maxSize() / 2);
+        } else {
+            clear();
+        }
+    }
+
+    private static Bitmap toBitmap(Drawable drawable, int maxSize) {
+        int width = drawable.getIntrinsicWidth();
+        int height = drawable.getIntrinsicHeight();
+
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+
+        if (maxSize > 0 && (width > maxSize || height > maxSize)) {
+            float scale = (float) maxSize / Math.max(width, height);
+            width = Math.max(1, Math.round(width * scale));
+            height = Math.max(1, Math.round(height * scale));
+        }
+
+        // A bitmap of the same size is used as it is
+        if (drawable instanceof BitmapDrawable) {
+            Bitmap bitmap = ((BitmapDrawable) drawable).getBitmap();
+
+            if (bitmap.getWidth() == width && bitmap.getHeight() == height) {
+                return bitmap;
+            }
+        }
+
+        Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        Canvas canvas = new Canvas(bitmap);
+
+        drawable.setBounds(0, 0, width, height);
+        drawable.draw(canvas);
+
+        return bitmap;
+    }
+
+    private static void registerCallbacks(Context context) {
+        if (sCallbacksRegistered) {
+            return;
+        }
+
+        context.getApplicationContext().registerComponentCallbacks(new ComponentCallbacks2() {
+            @Override
+            public void onTrimMemory(int level) {
+                trimMemory(level);
+            }
+
+            @Override
+            public void onConfigurationChanged(Configuration configuration) {
+                // Images can depend on a configuration, e.g. a night mode
+                clear();
+            }
+
+            @Override
+            public void onLowMemory() {
+                clear();
+            }
+        });
+
+        sCallbacksRegistered = true;
+    }
+
+    /**
+     * This class identifies an image loaded from a drawable resource or an URI with its size
+     */
+    private static final class ImageKey {
+        private int mDrawableRes;
+        private Uri mUri;
+        private int mMaxSize;
+
+        ImageKey set(int drawableRes, Uri uri, int maxSize) {
+            mDrawableRes = drawableRes;
+            mUri = uri;
+            mMaxSize = maxSize;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ImageKey)) {
+                return false;
+            }
+
+            ImageKey key = (ImageKey) obj;
+            return mDrawableRes == key.mDrawableRes && mMaxSize == key.mMaxSize
+                    && (mUri == null ? key.mUri == null : mUri.equals(key.mUri));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * mDrawableRes + (mUri == null ? 0 : mUri.hashCode())) + mMaxSize;
+        }
+    }
+
+    private DrawableCache() {
+    }
+}
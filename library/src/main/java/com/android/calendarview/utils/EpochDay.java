@@ -0,0 +1,221 @@
+package com.android.calendarview.utils;
+
+import java.util.Calendar;
+
+/**
+ * This class contains helpers for days packed into a single int, a number of days since
+ * 1970-01-01 in the proleptic Gregorian calendar. The int is an immutable value which can be
+ * compared, hashed and shifted by days without creating any objects, so the calendar uses it in
+ * all internal code and converts it to a Calendar object only at the edge of the public API.
+ * <p>
+ * Months are represented by a month index equal to year * 12 + month, where a month is counted
+ * from 0 like in the Calendar class.
+ * <p>
+ */
+
+public final class EpochDay {
+
+    /**
+     * @param year       A year of the date
+     * @param month      A month of the date, counted from 0 like in the Calendar class
+     * @param dayOfMonth A day of month of the date, counted from 1
+     * @return Epoch day of the date
+     */
+    public static int of(int year, int month, int dayOfMonth) {
+        // Years start in March, so a leap day is always the last day of a year
+        int shiftedYear = month < 2 ? year - 1 : year;
+        int era = (shiftedYear >= 0 ? shiftedYear : shiftedYear - 399) / 400;
+        int yearOfEra = shiftedYear - era * 400;
+        int dayOfYear = (153 * (month < 2 ? month + 10 : month - 2) + 2) / 5 + dayOfMonth - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * Only a year, a month and a day of month are taken into account, so the time and time zone
+     * of the calendar don't change the result.
+     *
+     * @param calendar Calendar object representing a date
+     * @return Epoch day of the date
+     */
+    public static int of(Calendar calendar) {
+        return of(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH), calendar.get(Calendar.DAY_OF_MONTH));
+    }
+
+    /**
+     * @param monthIndex A month index equal to year * 12 + month
+     * @param dayOfMonth A day of month, counted from 1
+     * @return Epoch day of the date
+     */
+    public static int ofMonth(int monthIndex, int dayOfMonth) {
+        return of(getYearOfMonth(monthIndex), getMonthOfMonth(monthIndex), dayOfMonth);
+    }
+
+    /**
+     * @return Epoch day of today in the default time zone
+     */
+    public static int today() {
+        return of(Calendar.getInstance());
+    }
+
+    /**
+     * @param epochDay Epoch day of the date
+     * @return A new Calendar object set to midnight of the date
+     */
+    public static Calendar toCalendar(int epochDay) {
+        int monthIndex = getMonthIndex(epochDay);
+
+        Calendar calendar = DateUtils.getCalendar();
+        calendar.set(getYearOfMonth(monthIndex), getMonthOfMonth(monthIndex), getDayOfMonth(epochDay));
+
+        return calendar;
+    }
+
+    /**
+     * @param epochDay Epoch day of the date
+     * @return A month index of the date equal to year * 12 + month
+     */
+    public static int getMonthIndex(int epochDay) {
+        int dayOfEra = getDayOfEra(epochDay);
+        int yearOfEra = getYearOfEra(dayOfEra);
+        int shiftedMonth = getShiftedMonth(dayOfEra, yearOfEra);
+
+        // Shifted years start in March, so January and February belong to the next year
+        int year = yearOfEra + getEra(epochDay) * 400 + (shiftedMonth >= 10 ? 1 : 0);
+        return year * 12 + (shiftedMonth < 10 ? shiftedMonth + 2 : shiftedMonth - 10);
+    }
+
+    /**
+     * @param epochDay Epoch day of the date
+     * @return A year of the date
+     */
+    public static int getYear(int epochDay) {
+        return getYearOfMonth(getMonthIndex(epochDay));
+    }
+
+    /**
+     * @param epochDay Epoch day of the date
+     * @return A month of the date, counted from 0 like in the Calendar class
+     */
+    public static int getMonth(int epochDay) {
+        return getMonthOfMonth(getMonthIndex(epochDay));
+    }
+
+    /**
+     * @param epochDay Epoch day of the date
+     * @return A day of month of the date, counted from 1
+     */
+    public static int getDayOfMonth(int epochDay) {
+        int dayOfEra = getDayOfEra(epochDay);
+        int yearOfEra = getYearOfEra(dayOfEra);
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+
+        return dayOfYear - (153 * getShiftedMonth(dayOfEra, yearOfEra) + 2) / 5 + 1;
+    }
+
+    /**
+     * @param epochDay Epoch day of the date
+     * @return A day of the week of the date, the same as Calendar.SUNDAY ... Calendar.SATURDAY
+     */
+    public static int getDayOfWeek(int epochDay) {
+        // 1970-01-01 was Thursday
+        int dayOfWeek = (epochDay + 4) % 7;
+        return (dayOfWeek < 0 ? dayOfWeek + 7 : dayOfWeek) + Calendar.SUNDAY;
+    }
+
+    /**
+     * @param epochDay       Epoch day of the date
+     * @param firstDayOfWeek A first day of the week like Calendar.MONDAY
+     * @return A position of the date in its week, counted from 0
+     */
+    public static int getDayOfWeekPosition(int epochDay, int firstDayOfWeek) {
+        int position = getDayOfWeek(epochDay) - firstDayOfWeek;
+        return position < 0 ? position + 7 : position;
+    }
+
+    /**
+     * @param epochDay Epoch day of the date
+     * @param months   A number of months to add, it can be negative
+     * @return Epoch day of the date shifted by months, a day of month is clamped to the length of
+     * the target month like in Calendar.add(Calendar.MONTH, months)
+     */
+    public static int plusMonths(int epochDay, int months) {
+        int monthIndex = getMonthIndex(epochDay) + months;
+        return ofMonth(monthIndex, Math.min(getDayOfMonth(epochDay), getDaysInMonth(monthIndex)));
+    }
+
+    /**
+     * @param calendar Calendar object representing a date
+     * @return A month index equal to year * 12 + month
+     */
+    public static int getMonthIndex(Calendar calendar) {
+        return calendar.get(Calendar.YEAR) * 12 + calendar.get(Calendar.MONTH);
+    }
+
+    /**
+     * @param monthIndex A month index equal to year * 12 + month
+     * @return A year of the month
+     */
+    public static int getYearOfMonth(int monthIndex) {
+        return (monthIndex >= 0 ? monthIndex : monthIndex - 11) / 12;
+    }
+
+    /**
+     * @param monthIndex A month index equal to year * 12 + month
+     * @return A month counted from 0 like in the Calendar class
+     */
+    public static int getMonthOfMonth(int monthIndex) {
+        return monthIndex - getYearOfMonth(monthIndex) * 12;
+    }
+
+    /**
+     * @param monthIndex A month index equal to year * 12 + month
+     * @return A number of days in the month
+     */
+    public static int getDaysInMonth(int monthIndex) {
+        int month = getMonthOfMonth(monthIndex);
+
+        if (month == Calendar.FEBRUARY) {
+            return isLeapYear(getYearOfMonth(monthIndex)) ? 29 : 28;
+        }
+
+        // April, June, September and November have 30 days
+        return month == Calendar.APRIL || month == Calendar.JUNE || month == Calendar.SEPTEMBER
+                || month == Calendar.NOVEMBER ? 30 : 31;
+    }
+
+    /**
+     * @param monthIndex A month index equal to year * 12 + month
+     * @return A day of the week of the first day of the month
+     */
+    public static int getFirstDayOfWeekOfMonth(int monthIndex) {
+        return getDayOfWeek(ofMonth(monthIndex, 1));
+    }
+
+    private static boolean isLeapYear(int year) {
+        return (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+    }
+
+    private static int getEra(int epochDay) {
+        int shiftedDay = epochDay + 719468;
+        return (shiftedDay >= 0 ? shiftedDay : shiftedDay - 146096) / 146097;
+    }
+
+    private static int getDayOfEra(int epochDay) {
+        return epochDay + 719468 - getEra(epochDay) * 146097;
+    }
+
+    private static int getYearOfEra(int dayOfEra) {
+        return (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+    }
+
+    // Returns a month counted from March as 0
+    private static int getShiftedMonth(int dayOfEra, int yearOfEra) {
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        return (5 * dayOfYear + 2) / 153;
+    }
+
+    private EpochDay() {
+    }
+}
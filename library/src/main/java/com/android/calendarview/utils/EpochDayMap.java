@@ -0,0 +1,195 @@
+package com.android.calendarview.utils;
+
+import java.util.Arrays;
+
+/**
+ * This class is an open addressing hash map which uses an epoch day (a number of days since
+ * 1970-01-01) as a primitive key. Lookups neither box the key nor allocate any objects, so it can
+ * be used while binding calendar cells.
+ * <p>
+ *
+ * @see EpochDay#of(java.util.Calendar)
+ */
+
+public class EpochDayMap<V> {
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private int[] mKeys;
+    private Object[] mValues;
+    private int mSize;
+
+    public EpochDayMap() {
+        this(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * @param expectedSize A number of entries which can be added without resizing the map
+     */
+    public EpochDayMap(int expectedSize) {
+        int capacity = MINIMUM_CAPACITY;
+
+        // Keep the load factor below 0.5 to make probe sequences short
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+
+        mKeys = new int[capacity];
+        mValues = new Object[capacity];
+    }
+
+    /**
+     * @param epochDay Epoch day of the entry
+     * @return A value assigned to the epoch day or null if there is no such entry
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int epochDay) {
+        int mask = mKeys.length - 1;
+
+        for (int index = hash(epochDay) & mask; mValues[index] != null; index = (index + 1) & mask) {
+            if (mKeys[index] == epochDay) {
+                return (V) mValues[index];
+            }
+        }
+
+        return null;
+    }
+
+    public boolean containsKey(int epochDay) {
+        return get(epochDay) != null;
+    }
+
+    /**
+     * @param epochDay Epoch day of the entry
+     * @param value    A non null value which will be assigned to the epoch day
+     * @return A previous value assigned to the epoch day or null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int epochDay, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("EpochDayMap does not accept null values");
+        }
+
+        int mask = mKeys.length - 1;
+        int index = hash(epochDay) & mask;
+
+        for (; mValues[index] != null; index = (index + 1) & mask) {
+            if (mKeys[index] == epochDay) {
+                V previous = (V) mValues[index];
+                mValues[index] = value;
+                return previous;
+            }
+        }
+
+        mKeys[index] = epochDay;
+        mValues[index] = value;
+
+        if (++mSize * 2 > mKeys.length) {
+            resize(mKeys.length << 1);
+        }
+
+        return null;
+    }
+
+    /**
+     * @param epochDay Epoch day of the entry which should be removed
+     * @return A removed value or null if there was no such entry
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(int epochDay) {
+        int mask = mKeys.length - 1;
+
+        for (int index = hash(epochDay) & mask; mValues[index] != null; index = (index + 1) & mask) {
+            if (mKeys[index] == epochDay) {
+                V previous = (V) mValues[index];
+                shiftEntries(index);
+                mSize--;
+                return previous;
+            }
+        }
+
+        return null;
+    }
+
+    public int size() {
+        return mSize;
+    }
+
+    public boolean isEmpty() {
+        return mSize == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(mValues, null);
+        mSize = 0;
+    }
+
+    /**
+     * @return An array containing all keys of the map in unspecified order
+     */
+    public int[] keys() {
+        int[] keys = new int[mSize];
+        int position = 0;
+
+        for (int index = 0; index < mValues.length; index++) {
+            if (mValues[index] != null) {
+                keys[position++] = mKeys[index];
+            }
+        }
+
+        return keys;
+    }
+
+    // Backward shift deletion keeps probe sequences valid without tombstones
+    private void shiftEntries(int gap) {
+        int mask = mKeys.length - 1;
+        int index = gap;
+
+        while (true) {
+            index = (index + 1) & mask;
+
+            if (mValues[index] == null) {
+                mValues[gap] = null;
+                return;
+            }
+
+            int home = hash(mKeys[index]) & mask;
+
+            // Move the entry only when its home slot is not placed between the gap and the entry
+            if (gap <= index ? (home <= gap || home > index) : (home <= gap && home > index)) {
+                mKeys[gap] = mKeys[index];
+                mValues[gap] = mValues[index];
+                gap = index;
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = mKeys;
+        Object[] oldValues = mValues;
+
+        mKeys = new int[capacity];
+        mValues = new Object[capacity];
+
+        int mask = capacity - 1;
+
+        for (int oldIndex = 0; oldIndex < oldValues.length; oldIndex++) {
+            if (oldValues[oldIndex] == null) {
+                continue;
+            }
+
+            int index = hash(oldKeys[oldIndex]) & mask;
+
+            while (mValues[index] != null) {
+                index = (index + 1) & mask;
+            }
+
+            mKeys[index] = oldKeys[oldIndex];
+            mValues[index] = oldValues[oldIndex];
+        }
+    }
+
+    private static int hash(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -1,22 +1,18 @@
 package com.android.calendarview.utils;
 
-import com.annimon.stream.Optional;
-import com.annimon.stream.Stream;
 import com.android.calendarview.EventDay;
 
-import java.util.Calendar;
 public class EventDayUtils {
 
     /**
      * This method is used to check whether this day is an event day with provided custom label color.
      *
-     * @param day                A calendar instance representing day date
+     * @param day                Epoch day representing day date
      * @param calendarProperties A calendar properties
      */
-    public static boolean isEventDayWithLabelColor(Calendar day, CalendarProperties calendarProperties) {
-        if (calendarProperties.getEventDays() != null || calendarProperties.getEventsEnabled()) {
-            return Stream.of(calendarProperties.getEventDays()).anyMatch(eventDate ->
-                    eventDate.getCalendar().equals(day) && eventDate.getLabelColor() != 0);
+    public static boolean isEventDayWithLabelColor(int day, CalendarProperties calendarProperties) {
+        if (calendarProperties.hasEventDays() || calendarProperties.getEventsEnabled()) {
+            return calendarProperties.getEventDayWithLabelColor(day) != null;
         }
 
         return false;
@@ -25,12 +21,11 @@ public class EventDayUtils {
     /**
      * This method is used to get event day which contains custom label color.
      *
-     * @param day                A calendar instance representing day date
+     * @param day                Epoch day representing day date
      * @param calendarProperties A calendar properties
+     * @return EventDay object or null if no event of the day has a custom label color
      */
-    public static Optional<EventDay> getEventDayWithLabelColor(Calendar day, CalendarProperties calendarProperties) {
-        return Stream.of(calendarProperties.getEventDays())
-                .filter(eventDate -> eventDate.getCalendar().equals(day) && eventDate.getLabelColor() != 0)
-                .findFirst();
+    public static EventDay getEventDayWithLabelColor(int day, CalendarProperties calendarProperties) {
+        return calendarProperties.getEventDayWithLabelColor(day);
     }
 }
@@ -0,0 +1,145 @@
+package com.android.calendarview.utils;
+
+import com.android.calendarview.EventDay;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * This class is an immutable index of event days keyed by an epoch day. It is built once when
+ * events are set and lets calendar cells find events of their day and aggregates of the events
+ * without scanning the whole list.
+ * <p>
+ */
+
+public final class EventDaysIndex {
+    public static final EventDaysIndex EMPTY = new EventDaysIndex(null);
+
+    // An interruptible build checks its thread once per this number of events or days
+    private static final int INTERRUPT_CHECK_INTERVAL = 1024;
+
+    private final EpochDayMap<DayEvents> mDayEvents;
+
+    /**
+     * @param eventDays List of EventDay objects, events of one day keep their order from the list
+     */
+    public EventDaysIndex(List<EventDay> eventDays) {
+        this(eventDays, false);
+    }
+
+    /**
+     * @param eventDays     List of EventDay objects, events of one day keep their order from the list
+     * @param interruptible Boolean value if the build throws CancellationException when its thread
+     *                      is interrupted, e.g. by a newer build in the background
+     */
+    EventDaysIndex(List<EventDay> eventDays, boolean interruptible) {
+        int size = eventDays == null ? 0 : eventDays.size();
+
+        mDayEvents = new EpochDayMap<>(size);
+
+        if (eventDays == null) {
+            return;
+        }
+
+        EpochDayMap<List<EventDay>> groupedEventDays = new EpochDayMap<>(size);
+
+        int count = 0;
+
+        for (EventDay eventDay : eventDays) {
+            checkInterrupted(interruptible, count++);
+
+            int epochDay = EpochDay.of(eventDay.getCalendar());
+            List<EventDay> dayEventDays = groupedEventDays.get(epochDay);
+
+            if (dayEventDays == null) {
+                dayEventDays = new ArrayList<>(1);
+                groupedEventDays.put(epochDay, dayEventDays);
+            }
+
+            dayEventDays.add(eventDay);
+        }
+
+        for (int epochDay : groupedEventDays.keys()) {
+            checkInterrupted(interruptible, count++);
+            mDayEvents.put(epochDay, new DayEvents(groupedEventDays.get(epochDay)));
+        }
+    }
+
+    /**
+     * @param epochDay Epoch day of the events
+     * @return All events of the day with their aggregates or null if there is no event
+     */
+    public DayEvents getDayEvents(int epochDay) {
+        return mDayEvents.get(epochDay);
+    }
+
+    /**
+     * @param epochDay Epoch day of the event
+     * @return The first event of the day or null if there is no event
+     */
+    public EventDay getEventDay(int epochDay) {
+        DayEvents dayEvents = mDayEvents.get(epochDay);
+        return dayEvents == null ? null : dayEvents.getFirstEventDay();
+    }
+
+    /**
+     * @param epochDay Epoch day of the event
+     * @return The first event having the most common custom label color of the day or null if
+     * there is no such event
+     */
+    public EventDay getEventDayWithLabelColor(int epochDay) {
+        DayEvents dayEvents = mDayEvents.get(epochDay);
+        return dayEvents == null ? null : dayEvents.getLabelColorEventDay();
+    }
+
+    /**
+     * This method compares two indexes, it lets to refresh only calendar pages which display
+     * changed days
+     *
+     * @param eventDaysIndex An index which will be compared with this one
+     * @return A set of days which events differ between the indexes
+     */
+    public DayMaskSet getChangedDays(EventDaysIndex eventDaysIndex) {
+        return getChangedDays(eventDaysIndex, false);
+    }
+
+    /**
+     * @param eventDaysIndex An index which will be compared with this one
+     * @param interruptible  Boolean value if the comparison throws CancellationException when its
+     *                       thread is interrupted
+     * @return A set of days which events differ between the indexes
+     */
+    DayMaskSet getChangedDays(EventDaysIndex eventDaysIndex, boolean interruptible) {
+        DayMaskSet changedDays = new DayMaskSet();
+
+        addChangedDays(changedDays, mDayEvents.keys(), eventDaysIndex, interruptible);
+        addChangedDays(changedDays, eventDaysIndex.mDayEvents.keys(), eventDaysIndex, interruptible);
+
+        return changedDays;
+    }
+
+    private void addChangedDays(DayMaskSet changedDays, int[] epochDays, EventDaysIndex eventDaysIndex,
+                                boolean interruptible) {
+        for (int index = 0; index < epochDays.length; index++) {
+            checkInterrupted(interruptible, index);
+
+            int epochDay = epochDays[index];
+            DayEvents dayEvents = getDayEvents(epochDay);
+
+            if (dayEvents == null || !dayEvents.hasSameEventDays(eventDaysIndex.getDayEvents(epochDay))) {
+                changedDays.add(epochDay);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return mDayEvents.isEmpty();
+    }
+
+    private static void checkInterrupted(boolean interruptible, int count) {
+        if (interruptible && count % INTERRUPT_CHECK_INTERVAL == 0 && Thread.interrupted()) {
+            throw new CancellationException();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.android.calendarview.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.android.calendarview.EventDay;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+
+/**
+ * This class builds an index of events on a background thread. A built index is immutable, so it
+ * is passed to the main thread as a ready snapshot together with days which differ from
+ * a previous index. Only the latest build is delivered, an older build is interrupted and stops.
+ * <p>
+ * All methods are called on the main thread.
+ * <p>
+ */
+
+public class EventDaysIndexLoader {
+
+    private static ExecutorService sExecutor;
+
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+    private FutureTask<Snapshot> mBuild;
+
+    /**
+     * This interface is used to pass a built index to the calendar
+     */
+    public interface OnIndexBuiltListener {
+        void onIndexBuilt(Snapshot snapshot);
+    }
+
+    /**
+     * This class contains events and their index built in the background
+     */
+    public static final class Snapshot {
+        private final List<EventDay> mEventDays;
+        private final EventDaysIndex mPreviousEventDaysIndex;
+        private EventDaysIndex mEventDaysIndex;
+        private DayMaskSet mChangedDays;
+
+        private Snapshot(List<EventDay> eventDays, EventDaysIndex previousEventDaysIndex) {
+            mEventDays = eventDays;
+            mPreviousEventDaysIndex = previousEventDaysIndex;
+        }
+
+        /**
+         * @return An unmodifiable copy of events passed to the loader
+         */
+        public List<EventDay> getEventDays() {
+            return mEventDays;
+        }
+
+        public EventDaysIndex getEventDaysIndex() {
+            return mEventDaysIndex;
+        }
+
+        /**
+         * @return An index which was used by the calendar when the build was started
+         */
+        public EventDaysIndex getPreviousEventDaysIndex() {
+            return mPreviousEventDaysIndex;
+        }
+
+        /**
+         * @return Days which differ between the previous index and the built one
+         */
+        public DayMaskSet getChangedDays() {
+            return mChangedDays;
+        }
+    }
+
+    /**
+     * This method starts building an index of the events and cancels a build which is in progress
+     *
+     * @param eventDays              List of EventDay objects, it is copied before the build starts
+     * @param previousEventDaysIndex An index currently used by the calendar
+     * @param onIndexBuiltListener   A listener called on the main thread when the index is built
+     */
+    public void build(List<EventDay> eventDays, EventDaysIndex previousEventDaysIndex,
+                      OnIndexBuiltListener onIndexBuiltListener) {
+        cancel();
+
+        // The list is copied on the main thread, so a caller can change it when the build is running
+        Snapshot snapshot = new Snapshot(Collections.unmodifiableList(new ArrayList<>(eventDays)),
+                previousEventDaysIndex);
+
+        FutureTask<Snapshot> build = new FutureTask<Snapshot>(() -> buildSnapshot(snapshot)) {
+            @Override
+            protected void done() {
+                mMainHandler.post(() -> onSnapshotBuilt(this, onIndexBuiltListener));
+            }
+        };
+
+        mBuild = build;
+        getExecutor().execute(build);
+    }
+
+    /**
+     * This method cancels a build which is in progress, its result won't be delivered
+     */
+    public void cancel() {
+        if (mBuild != null) {
+            mBuild.cancel(true);
+            mBuild = null;
+        }
+    }
+
+    // A cancelled build is interrupted and stops early, so a newer build queued behind it starts
+    // without waiting for a result which would be discarded
+    private static Snapshot buildSnapshot(Snapshot snapshot) {
+        snapshot.mEventDaysIndex = new EventDaysIndex(snapshot.mEventDays, true);
+        snapshot.mChangedDays = snapshot.mPreviousEventDaysIndex.getChangedDays(snapshot.mEventDaysIndex, true);
+
+        return snapshot;
+    }
+
+    private void onSnapshotBuilt(FutureTask<Snapshot> build, OnIndexBuiltListener onIndexBuiltListener) {
+        if (build != mBuild || build.isCancelled()) {
+            return;
+        }
+
+        mBuild = null;
+
+        Snapshot snapshot;
+
+        try {
+            snapshot = build.get();
+        } catch (InterruptedException | ExecutionException exception) {
+            // A failed build leaves the previous events in the calendar
+            return;
+        }
+
+        onIndexBuiltListener.onIndexBuilt(snapshot);
+    }
+
+    private static ExecutorService getExecutor() {
+        if (sExecutor == null) {
+            sExecutor = Executors.newSingleThreadExecutor();
+        }
+
+        return sExecutor;
+    }
+}
@@ -0,0 +1,373 @@
+package com.android.calendarview.utils;
+
+import android.content.ContentResolver;
+import android.content.Context;
+import android.database.Cursor;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.provider.OpenableColumns;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * This class loads event images from files and content URIs on background threads. An image is
+ * downsampled while decoding and scaled to a size of a day icon, then it is kept in memory by
+ * DrawableCache and on a disk in the application cache directory, so it is decoded from
+ * an original source only once. A size and a modification time of the source are a part of
+ * a name of a disk cache file when they are known, so a changed image is decoded again.
+ * <p>
+ * Requests and callbacks are handled only on the main thread.
+ * <p>
+ */
+
+public final class EventImageLoader {
+
+    private static final String DISK_CACHE_DIRECTORY = "calendar_view_images";
+    private static final long DISK_CACHE_SIZE = 10 * 1024 * 1024;
+
+    private static final int THREADS_COUNT = 2;
+
+    // Columns of a content provider describing a version of a file
+    private static final String[] VERSION_COLUMNS = {OpenableColumns.SIZE, "last_modified", "date_modified"};
+
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+    private static ExecutorService sExecutor;
+
+    // Listeners of images which are being loaded, keyed by cache keys
+    private static final Map<String, List<OnImageLoadedListener>> sPendingRequests = new HashMap<>();
+
+    // Images which can't be loaded are not requested again until the cache is cleared
+    private static final Set<String> sFailedRequests = new HashSet<>();
+
+    /**
+     * This interface is used to inform that an image is ready
+     */
+    public interface OnImageLoadedListener {
+        void onImageLoaded(Bitmap bitmap);
+    }
+
+    /**
+     * @param uri     A file or content URI of the image
+     * @param maxSize A maximum width and height of the image in pixels
+     * @return A decoded image kept in memory or null if the image has to be loaded
+     */
+    public static Bitmap getCachedBitmap(Uri uri, int maxSize) {
+        return DrawableCache.getBitmap(uri, maxSize);
+    }
+
+    /**
+     * This method loads the image in the background and calls the listener on the main thread,
+     * the listener is not called if the image can't be loaded
+     *
+     * @param context  A context used to open the URI
+     * @param uri      A file or content URI of the image
+     * @param maxSize  A maximum width and height of the image in pixels
+     * @param listener A listener called when the image is ready
+     */
+    public static void load(Context context, Uri uri, int maxSize, OnImageLoadedListener listener) {
+        String key = getKey(uri, maxSize);
+
+        Bitmap bitmap = DrawableCache.getBitmap(uri, maxSize);
+
+        if (bitmap != null) {
+            listener.onImageLoaded(bitmap);
+            return;
+        }
+
+        if (sFailedRequests.contains(key)) {
+            return;
+        }
+
+        List<OnImageLoadedListener> listeners = sPendingRequests.get(key);
+
+        // The image is already being loaded
+        if (listeners != null) {
+            listeners.add(listener);
+            return;
+        }
+
+        listeners = new ArrayList<>();
+        listeners.add(listener);
+        sPendingRequests.put(key, listeners);
+
+        Context applicationContext = context.getApplicationContext();
+
+        getExecutor().execute(() -> {
+            Bitmap loadedBitmap = null;
+
+            // A request has to be completed even if loading fails, otherwise it would stay pending
+            try {
+                loadedBitmap = loadBitmap(applicationContext, uri, maxSize, key);
+            } finally {
+                Bitmap result = loadedBitmap;
+                sMainHandler.post(() -> onBitmapLoaded(applicationContext, uri, maxSize, key, result));
+            }
+        });
+    }
+
+    /**
+     * This method removes all images kept in memory and on a disk, e.g. when images of URIs
+     * have changed and their sources don't report a modification time
+     *
+     * @param context A context used to find the application cache directory
+     */
+    public static void clearCache(Context context) {
+        DrawableCache.clear();
+
+        File directory = getDiskCacheDirectory(context.getApplicationContext());
+
+        getExecutor().execute(() -> {
+            File[] files = directory.listFiles();
+
+            if (files == null) {
+                return;
+            }
+
+            for (File file : files) {
+                file.delete();
+            }
+        });
+    }
+
+    static void clearFailures() {
+        sFailedRequests.clear();
+    }
+
+    private static void onBitmapLoaded(Context context, Uri uri, int maxSize, String key, Bitmap bitmap) {
+        List<OnImageLoadedListener> listeners = sPendingRequests.remove(key);
+
+        if (bitmap == null) {
+            sFailedRequests.add(key);
+            return;
+        }
+
+        DrawableCache.putBitmap(context, uri, maxSize, bitmap);
+
+        for (OnImageLoadedListener listener : listeners) {
+            listener.onImageLoaded(bitmap);
+        }
+    }
+
+    private static Bitmap loadBitmap(Context context, Uri uri, int maxSize, String key) {
+        File file = new File(getDiskCacheDirectory(context), getFileName(key + "#" + getSourceVersion(context, uri)));
+
+        if (file.exists()) {
+            Bitmap bitmap = BitmapFactory.decodeFile(file.getPath());
+
+            if (bitmap != null) {
+                // Last modification time is used to remove the least recently used files
+                file.setLastModified(System.currentTimeMillis());
+                return bitmap;
+            }
+        }
+
+        try {
+            Bitmap bitmap = decodeBitmap(context, uri, maxSize);
+
+            if (bitmap != null) {
+                saveBitmap(context, file, bitmap);
+            }
+
+            return bitmap;
+        } catch (IOException | SecurityException exception) {
+            return null;
+        }
+    }
+
+    private static Bitmap decodeBitmap(Context context, Uri uri, int maxSize) throws IOException {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inJustDecodeBounds = true;
+        decodeStream(context, uri, options);
+
+        if (options.outWidth <= 0 || options.outHeight <= 0) {
+            return null;
+        }
+
+        // Decoding every second pixel is the cheapest way to reduce a size of a large image
+        int sampleSize = 1;
+
+        while (options.outWidth / (sampleSize * 2) >= maxSize && options.outHeight / (sampleSize * 2) >= maxSize) {
+            sampleSize *= 2;
+        }
+
+        options.inJustDecodeBounds = false;
+        options.inSampleSize = sampleSize;
+
+        Bitmap bitmap = decodeStream(context, uri, options);
+
+        if (bitmap == null || (bitmap.getWidth() <= maxSize && bitmap.getHeight() <= maxSize)) {
+            return bitmap;
+        }
+
+        float scale = (float) maxSize / Math.max(bitmap.getWidth(), bitmap.getHeight());
+        int width = Math.max(1, Math.round(bitmap.getWidth() * scale));
+        int height = Math.max(1, Math.round(bitmap.getHeight() * scale));
+
+        Bitmap scaledBitmap = Bitmap.createScaledBitmap(bitmap, width, height, true);
+
+        if (scaledBitmap != bitmap) {
+            bitmap.recycle();
+        }
+
+        return scaledBitmap;
+    }
+
+    private static Bitmap decodeStream(Context context, Uri uri, BitmapFactory.Options options) throws IOException {
+        InputStream inputStream = context.getContentResolver().openInputStream(uri);
+
+        if (inputStream == null) {
+            return null;
+        }
+
+        try {
+            return BitmapFactory.decodeStream(inputStream, null, options);
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    private static void saveBitmap(Context context, File file, Bitmap bitmap) {
+        File directory = file.getParentFile();
+
+        if (!directory.exists() && !directory.mkdirs()) {
+            return;
+        }
+
+        trimDiskCache(directory);
+
+        try {
+            OutputStream outputStream = new FileOutputStream(file);
+
+            try {
+                bitmap.compress(Bitmap.CompressFormat.PNG, 100, outputStream);
+            } finally {
+                outputStream.close();
+            }
+        } catch (IOException exception) {
+            file.delete();
+        }
+    }
+
+    // Removes the least recently used files when the disk cache is larger than its limit
+    private static synchronized void trimDiskCache(File directory) {
+        File[] files = directory.listFiles();
+
+        if (files == null) {
+            return;
+        }
+
+        long size = 0;
+
+        for (File file : files) {
+            size += file.length();
+        }
+
+        while (size > DISK_CACHE_SIZE) {
+            File oldestFile = null;
+
+            for (File file : files) {
+                if (file.exists() && (oldestFile == null || file.lastModified() < oldestFile.lastModified())) {
+                    oldestFile = file;
+                }
+            }
+
+            if (oldestFile == null) {
+                return;
+            }
+
+            size -= oldestFile.length();
+            oldestFile.delete();
+        }
+    }
+
+    // Returns a size and a modification time of the source or an empty string if they are unknown
+    private static String getSourceVersion(Context context, Uri uri) {
+        if (ContentResolver.SCHEME_FILE.equals(uri.getScheme()) && uri.getPath() != null) {
+            File file = new File(uri.getPath());
+            return file.length() + "-" + file.lastModified();
+        }
+
+        Cursor cursor = null;
+
+        // Providers don't have to support any of the columns, so all columns are requested
+        try {
+            cursor = context.getContentResolver().query(uri, null, null, null, null);
+
+            if (cursor == null || !cursor.moveToFirst()) {
+                return "";
+            }
+
+            StringBuilder version = new StringBuilder();
+
+            for (String column : VERSION_COLUMNS) {
+                int index = cursor.getColumnIndex(column);
+
+                if (index >= 0 && !cursor.isNull(index)) {
+                    version.append(cursor.getString(index));
+                }
+
+                version.append('-');
+            }
+
+            return version.toString();
+        } catch (RuntimeException exception) {
+            return "";
+        } finally {
+            if (cursor != null) {
+                cursor.close();
+            }
+        }
+    }
+
+    private static File getDiskCacheDirectory(Context context) {
+        return new File(context.getCacheDir(), DISK_CACHE_DIRECTORY);
+    }
+
+    private static String getKey(Uri uri, int maxSize) {
+        return uri + "#" + maxSize;
+    }
+
+    private static String getFileName(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes());
+            StringBuilder fileName = new StringBuilder(digest.length * 2);
+
+            for (byte value : digest) {
+                fileName.append(Character.forDigit((value >> 4) & 0xF, 16))
+                        .append(Character.forDigit(value & 0xF, 16));
+            }
+
+            return fileName.toString();
+        } catch (NoSuchAlgorithmException exception) {
+            return Integer.toHexString(key.hashCode());
+        }
+    }
+
+    private static ExecutorService getExecutor() {
+        if (sExecutor == null) {
+            sExecutor = Executors.newFixedThreadPool(THREADS_COUNT);
+        }
+
+        return sExecutor;
+    }
+
+    private EventImageLoader() {
+    }
+}
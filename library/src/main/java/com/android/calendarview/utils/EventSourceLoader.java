@@ -0,0 +1,185 @@
+package com.android.calendarview.utils;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.SparseArray;
+
+import com.android.calendarview.EventDay;
+import com.android.calendarview.EventSource;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+
+/**
+ * This class loads events from an EventSource month by month on a background thread. A current
+ * month and months next to it are requested, loaded months are kept in a window around a current
+ * month and requests of months which are not near a current month anymore are cancelled.
+ * <p>
+ * All methods are called on the main thread.
+ * <p>
+ */
+
+public class EventSourceLoader {
+
+    /**
+     * A number of months before and after a current month which are requested
+     */
+    private static final int PREFETCH_RADIUS = 1;
+
+    /**
+     * A number of months before and after a current month which are kept in memory
+     */
+    private static final int WINDOW_RADIUS = 3;
+
+    private static ExecutorService sExecutor;
+
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+    private final EventSource mEventSource;
+    private final OnEventsLoadedListener mOnEventsLoadedListener;
+
+    private final SparseArray<List<EventDay>> mMonths = new SparseArray<>();
+    private final SparseArray<FutureTask<List<EventDay>>> mRequests = new SparseArray<>();
+
+    private int mCurrentMonthIndex;
+    private boolean mReleased;
+
+    /**
+     * This interface is used to pass events of all loaded months when a month is loaded
+     */
+    public interface OnEventsLoadedListener {
+        void onEventsLoaded(List<EventDay> eventDays);
+    }
+
+    public EventSourceLoader(EventSource eventSource, OnEventsLoadedListener onEventsLoadedListener) {
+        mEventSource = eventSource;
+        mOnEventsLoadedListener = onEventsLoadedListener;
+    }
+
+    /**
+     * This method moves the window to the month, cancels requests of months far from it and
+     * requests the month and months next to it
+     *
+     * @param monthIndex A month index of a current page equal to year * 12 + month
+     */
+    public void setCurrentMonth(int monthIndex) {
+        if (mReleased) {
+            return;
+        }
+
+        mCurrentMonthIndex = monthIndex;
+
+        cancelRequests(PREFETCH_RADIUS);
+
+        // Events of removed months are released by the calendar too
+        if (removeMonths(WINDOW_RADIUS)) {
+            mOnEventsLoadedListener.onEventsLoaded(getEventDays());
+        }
+
+        // A current month is requested first
+        request(monthIndex);
+
+        for (int distance = 1; distance <= PREFETCH_RADIUS; distance++) {
+            request(monthIndex - distance);
+            request(monthIndex + distance);
+        }
+    }
+
+    /**
+     * @return List of events of all loaded months
+     */
+    public List<EventDay> getEventDays() {
+        List<EventDay> eventDays = new ArrayList<>();
+
+        for (int index = 0; index < mMonths.size(); index++) {
+            eventDays.addAll(mMonths.valueAt(index));
+        }
+
+        return eventDays;
+    }
+
+    /**
+     * This method cancels all requests, the loader can't be used anymore
+     */
+    public void release() {
+        mReleased = true;
+        cancelRequests(-1);
+        mMonths.clear();
+    }
+
+    private void request(int monthIndex) {
+        if (mMonths.get(monthIndex) != null || mRequests.get(monthIndex) != null) {
+            return;
+        }
+
+        Calendar firstDay = EpochDay.toCalendar(EpochDay.ofMonth(monthIndex, 1));
+        Calendar lastDay = EpochDay.toCalendar(EpochDay.ofMonth(monthIndex, EpochDay.getDaysInMonth(monthIndex)));
+
+        FutureTask<List<EventDay>> request = new FutureTask<List<EventDay>>(() -> mEventSource.getEvents(firstDay, lastDay)) {
+            @Override
+            protected void done() {
+                mMainHandler.post(() -> onMonthLoaded(monthIndex, this));
+            }
+        };
+
+        mRequests.put(monthIndex, request);
+        getExecutor().execute(request);
+    }
+
+    private void onMonthLoaded(int monthIndex, FutureTask<List<EventDay>> request) {
+        // The request was cancelled or the loader was released
+        if (mReleased || mRequests.get(monthIndex) != request) {
+            return;
+        }
+
+        mRequests.remove(monthIndex);
+
+        List<EventDay> eventDays;
+
+        try {
+            eventDays = request.get();
+        } catch (InterruptedException | ExecutionException | CancellationException exception) {
+            // A month which couldn't be loaded is requested again when the current month changes
+            return;
+        }
+
+        mMonths.put(monthIndex, eventDays != null ? eventDays : Collections.emptyList());
+        mOnEventsLoadedListener.onEventsLoaded(getEventDays());
+    }
+
+    private void cancelRequests(int radius) {
+        for (int index = mRequests.size() - 1; index >= 0; index--) {
+            if (Math.abs(mRequests.keyAt(index) - mCurrentMonthIndex) > radius) {
+                mRequests.valueAt(index).cancel(true);
+                mRequests.removeAt(index);
+            }
+        }
+    }
+
+    private boolean removeMonths(int radius) {
+        int size = mMonths.size();
+
+        for (int index = size - 1; index >= 0; index--) {
+            if (Math.abs(mMonths.keyAt(index) - mCurrentMonthIndex) > radius) {
+                mMonths.removeAt(index);
+            }
+        }
+
+        return mMonths.size() != size;
+    }
+
+    private static ExecutorService getExecutor() {
+        if (sExecutor == null) {
+            sExecutor = Executors.newSingleThreadExecutor();
+        }
+
+        return sExecutor;
+    }
+}
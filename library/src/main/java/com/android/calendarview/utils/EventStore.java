@@ -0,0 +1,251 @@
+package com.android.calendarview.utils;
+
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.SparseArray;
+import android.view.Choreographer;
+
+import com.android.calendarview.EventDay;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class keeps events which can be added and removed one by one from any thread, e.g. by
+ * a synchronization worker. Events are grouped in buckets of months. A changed bucket is copied
+ * and the whole set of buckets is published by one volatile write, so calendar cells read events
+ * without any lock and never see a half-applied change.
+ * <p>
+ * Days changed by many mutations are collected and passed to the listener once per frame on
+ * the main thread.
+ * <p>
+ */
+
+public final class EventStore {
+
+    private static final Handler sMainHandler = new Handler(Looper.getMainLooper());
+
+    // Buckets are never changed after they are published, writers replace them under the lock
+    private volatile SparseArray<MonthBucket> mBuckets = new SparseArray<>();
+
+    private final Object mLock = new Object();
+
+    // Days changed since the last dispatch, guarded by the lock
+    private final DayMaskSet mChangedDays = new DayMaskSet();
+    private boolean mDispatchScheduled;
+
+    private OnEventsChangedListener mOnEventsChangedListener;
+
+    /**
+     * This interface is used to inform the calendar about days which events have changed
+     */
+    public interface OnEventsChangedListener {
+        void onEventsChanged(DayMaskSet changedDays);
+    }
+
+    /**
+     * @param onEventsChangedListener A listener called on the main thread at most once per frame
+     */
+    public void setOnEventsChangedListener(OnEventsChangedListener onEventsChangedListener) {
+        mOnEventsChangedListener = onEventsChangedListener;
+    }
+
+    /**
+     * @param epochDay Epoch day of the events
+     * @return All events of the day with their aggregates or null if there is no event
+     */
+    public DayEvents getDayEvents(int epochDay) {
+        MonthBucket bucket = mBuckets.get(EpochDay.getMonthIndex(epochDay));
+        return bucket == null ? null : bucket.mEventDaysIndex.getDayEvents(epochDay);
+    }
+
+    /**
+     * @param epochDay Epoch day of the event
+     * @return The first event of the day or null if there is no event
+     */
+    public EventDay getEventDay(int epochDay) {
+        MonthBucket bucket = mBuckets.get(EpochDay.getMonthIndex(epochDay));
+        return bucket == null ? null : bucket.mEventDaysIndex.getEventDay(epochDay);
+    }
+
+    /**
+     * @param epochDay Epoch day of the event
+     * @return The first event having the most common custom label color of the day or null if
+     * there is no such event
+     */
+    public EventDay getEventDayWithLabelColor(int epochDay) {
+        MonthBucket bucket = mBuckets.get(EpochDay.getMonthIndex(epochDay));
+        return bucket == null ? null : bucket.mEventDaysIndex.getEventDayWithLabelColor(epochDay);
+    }
+
+    /**
+     * @param monthIndex A month index equal to year * 12 + month
+     * @return An unmodifiable list of events of the month
+     */
+    public List<EventDay> getEventDays(int monthIndex) {
+        MonthBucket bucket = mBuckets.get(monthIndex);
+        return bucket == null ? Collections.emptyList() : bucket.mEventDays;
+    }
+
+    public boolean isEmpty() {
+        return mBuckets.size() == 0;
+    }
+
+    /**
+     * This method adds the event after other events of its day
+     *
+     * @param eventDay EventDay object which will be added
+     */
+    public void add(EventDay eventDay) {
+        int epochDay = EpochDay.of(eventDay.getCalendar());
+
+        synchronized (mLock) {
+            List<EventDay> eventDays = new ArrayList<>(getEventDays(EpochDay.getMonthIndex(epochDay)));
+            eventDays.add(eventDay);
+
+            publish(epochDay, eventDays);
+        }
+    }
+
+    /**
+     * This method replaces all events of the day by the event
+     *
+     * @param eventDay EventDay object which will be the only event of its day
+     */
+    public void put(EventDay eventDay) {
+        int epochDay = EpochDay.of(eventDay.getCalendar());
+
+        synchronized (mLock) {
+            List<EventDay> eventDays = getEventDaysWithout(epochDay);
+            eventDays.add(eventDay);
+
+            publish(epochDay, eventDays);
+        }
+    }
+
+    /**
+     * @param eventDay EventDay object which was added to the store
+     * @return Boolean value if the event was removed
+     */
+    public boolean remove(EventDay eventDay) {
+        int epochDay = EpochDay.of(eventDay.getCalendar());
+
+        synchronized (mLock) {
+            List<EventDay> eventDays = new ArrayList<>(getEventDays(EpochDay.getMonthIndex(epochDay)));
+
+            if (!eventDays.remove(eventDay)) {
+                return false;
+            }
+
+            publish(epochDay, eventDays);
+            return true;
+        }
+    }
+
+    /**
+     * This method removes all events of the day
+     *
+     * @param epochDay Epoch day of events which will be removed
+     */
+    public void removeAll(int epochDay) {
+        synchronized (mLock) {
+            publish(epochDay, getEventDaysWithout(epochDay));
+        }
+    }
+
+    public void clear() {
+        synchronized (mLock) {
+            SparseArray<MonthBucket> buckets = mBuckets;
+
+            for (int index = 0; index < buckets.size(); index++) {
+                for (EventDay eventDay : buckets.valueAt(index).mEventDays) {
+                    mChangedDays.add(EpochDay.of(eventDay.getCalendar()));
+                }
+            }
+
+            mBuckets = new SparseArray<>();
+            scheduleDispatch();
+        }
+    }
+
+    // Returns a copy of events of the month without events of the day
+    private List<EventDay> getEventDaysWithout(int epochDay) {
+        List<EventDay> monthEventDays = getEventDays(EpochDay.getMonthIndex(epochDay));
+        List<EventDay> copy = new ArrayList<>(monthEventDays.size() + 1);
+
+        for (EventDay eventDay : monthEventDays) {
+            if (EpochDay.of(eventDay.getCalendar()) != epochDay) {
+                copy.add(eventDay);
+            }
+        }
+
+        return copy;
+    }
+
+    // Replaces a bucket of the day's month, it is called holding the lock
+    private void publish(int epochDay, List<EventDay> eventDays) {
+        int monthIndex = EpochDay.getMonthIndex(epochDay);
+        SparseArray<MonthBucket> buckets = mBuckets.clone();
+
+        if (eventDays.isEmpty()) {
+            buckets.remove(monthIndex);
+        } else {
+            buckets.put(monthIndex, new MonthBucket(eventDays));
+        }
+
+        // SparseArray.remove() only marks an entry, so the array is compacted by size() before
+        // it is published, otherwise readers would compact a shared array in place
+        buckets.size();
+
+        mBuckets = buckets;
+
+        mChangedDays.add(epochDay);
+        scheduleDispatch();
+    }
+
+    private void scheduleDispatch() {
+        if (mDispatchScheduled) {
+            return;
+        }
+
+        mDispatchScheduled = true;
+
+        sMainHandler.post(() -> {
+            // Choreographer is available since API 16, older devices refresh pages immediately
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+                Choreographer.getInstance().postFrameCallback(frameTimeNanos -> dispatchChanges());
+            } else {
+                dispatchChanges();
+            }
+        });
+    }
+
+    private void dispatchChanges() {
+        DayMaskSet changedDays = new DayMaskSet();
+
+        synchronized (mLock) {
+            changedDays.addAll(mChangedDays);
+            mChangedDays.clear();
+            mDispatchScheduled = false;
+        }
+
+        if (mOnEventsChangedListener != null) {
+            mOnEventsChangedListener.onEventsChanged(changedDays);
+        }
+    }
+
+    /**
+     * This class contains events of one month, it is immutable
+     */
+    private static final class MonthBucket {
+        private final List<EventDay> mEventDays;
+        private final EventDaysIndex mEventDaysIndex;
+
+        MonthBucket(List<EventDay> eventDays) {
+            mEventDays = Collections.unmodifiableList(eventDays);
+            mEventDaysIndex = new EventDaysIndex(mEventDays);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.android.calendarview.utils;
 
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
+import android.net.Uri;
 import android.widget.ImageView;
 
-import androidx.core.content.ContextCompat;
+import com.android.calendarview.R;
 
 /**
  * This class is used to load event image in a day cell
@@ -12,17 +16,23 @@ import androidx.core.content.ContextCompat;
 
 public class ImageUtils {
 
-    public static void loadImage(ImageView imageView, Object image) {
-        if (image == null) {
+    /**
+     * @param imageView   ImageView of a day cell
+     * @param image       An event image, a Drawable object, a drawable resource or an URI
+     * @param maxSize     A maximum width and height of an image loaded from a resource or an URI
+     *                    in pixels
+     * @param placeholder A drawable resource displayed until an URI image is loaded or 0
+     */
+    public static void loadImage(ImageView imageView, Object image, int maxSize, int placeholder) {
+        // The view can be bound to another image before an URI image is loaded
+        imageView.setTag(R.id.dayIcon, image);
+
+        if (image instanceof Uri) {
+            loadUriImage(imageView, (Uri) image, maxSize, placeholder);
             return;
         }
 
-        Drawable drawable = null;
-        if (image instanceof Drawable) {
-            drawable = (Drawable) image;
-        } else if (image instanceof Integer) {
-            drawable = ContextCompat.getDrawable(imageView.getContext(), (Integer) image);
-        }
+        Drawable drawable = getDrawable(imageView.getContext(), image, maxSize);
 
         if (drawable == null) {
             return;
@@ -31,6 +41,60 @@ public class ImageUtils {
         imageView.setImageDrawable(drawable);
     }
 
+    /**
+     * This method removes an image of a recycled day cell
+     *
+     * @param imageView ImageView of a day cell
+     */
+    public static void clearImage(ImageView imageView) {
+        imageView.setTag(R.id.dayIcon, null);
+        imageView.setImageDrawable(null);
+    }
+
+    private static void loadUriImage(ImageView imageView, Uri uri, int maxSize, int placeholder) {
+        Context context = imageView.getContext();
+        Bitmap bitmap = EventImageLoader.getCachedBitmap(uri, maxSize);
+
+        if (bitmap != null) {
+            imageView.setImageDrawable(new BitmapDrawable(context.getResources(), bitmap));
+            return;
+        }
+
+        imageView.setImageDrawable(placeholder == 0 ? null : DrawableCache.get(context, placeholder, maxSize));
+
+        // Only this view is changed when the image is ready
+        EventImageLoader.load(context, uri, maxSize, loadedBitmap -> {
+            if (uri.equals(imageView.getTag(R.id.dayIcon))) {
+                imageView.setImageDrawable(new BitmapDrawable(context.getResources(), loadedBitmap));
+            }
+        });
+    }
+
+    /**
+     * @param context A context used to load a drawable resource
+     * @param image   An event image, a Drawable object, a drawable resource or an URI
+     * @param maxSize A maximum width and height of an image loaded from a resource or an URI
+     *                in pixels
+     * @return Drawable of the image or null if the image is not set or an URI image is not loaded
+     */
+    public static Drawable getDrawable(Context context, Object image, int maxSize) {
+        if (image instanceof Drawable) {
+            return (Drawable) image;
+        }
+
+        // Resources are decoded once and shared by all calendars
+        if (image instanceof Integer) {
+            return DrawableCache.get(context, (Integer) image, maxSize);
+        }
+
+        if (image instanceof Uri) {
+            Bitmap bitmap = EventImageLoader.getCachedBitmap((Uri) image, maxSize);
+            return bitmap == null ? null : new BitmapDrawable(context.getResources(), bitmap);
+        }
+
+        return null;
+    }
+
     private ImageUtils() {
     }
 }
@@ -0,0 +1,209 @@
+package com.android.calendarview.utils;
+
+import android.util.SparseArray;
+
+import java.util.Calendar;
+
+/**
+ * This class represents a layout of one calendar page: 42 cells containing a part of a previous
+ * month, a whole month and a part of a next month. A grid is computed in constant time from
+ * a month index and it is immutable, so grids are shared by all calendars through a small
+ * LRU cache keyed by primitive month indexes, so swiping between already visited months neither
+ * computes nor allocates anything.
+ * <p>
+ */
+
+public final class MonthGrid {
+
+    /**
+     * A number of all possible cells in one page
+     */
+    public static final int CELLS_COUNT = 42;
+
+    /**
+     * A first day of the week of a grid row
+     */
+    public static final int FIRST_DAY_OF_WEEK = Calendar.MONDAY;
+
+    public static final int PREVIOUS_MONTH = -1;
+    public static final int CURRENT_MONTH = 0;
+    public static final int NEXT_MONTH = 1;
+
+    private static final int CACHE_SIZE = 24;
+    private static final SparseArray<MonthGrid> sCache = new SparseArray<>(CACHE_SIZE);
+
+    // Month indexes of cached grids, the most recently used one first
+    private static final int[] sRecentMonths = new int[CACHE_SIZE];
+    private static int sRecentMonthsCount;
+
+    // Labels of days of month, an index is equal to a day of month
+    private static final String[] DAY_LABELS = new String[32];
+
+    static {
+        for (int dayOfMonth = 1; dayOfMonth < DAY_LABELS.length; dayOfMonth++) {
+            DAY_LABELS[dayOfMonth] = String.valueOf(dayOfMonth);
+        }
+    }
+
+    private final int mMonthIndex;
+    private final int mFirstDayOfMonth;
+    private final int mMonthBeginningCell;
+    private final int mDaysInMonth;
+
+    private final int[] mDays = new int[CELLS_COUNT];
+    private final int[] mDaysOfMonth = new int[CELLS_COUNT];
+    private final int[] mCellMonths = new int[CELLS_COUNT];
+
+    /**
+     * @param monthIndex A month index equal to year * 12 + month
+     * @return A shared grid of the month
+     */
+    public static synchronized MonthGrid get(int monthIndex) {
+        MonthGrid monthGrid = sCache.get(monthIndex);
+
+        if (monthGrid != null) {
+            moveToFront(indexOfRecentMonth(monthIndex), monthIndex);
+            return monthGrid;
+        }
+
+        // The least recently used grid is evicted when the cache is full
+        if (sRecentMonthsCount == CACHE_SIZE) {
+            sCache.remove(sRecentMonths[CACHE_SIZE - 1]);
+            sRecentMonthsCount--;
+        }
+
+        monthGrid = new MonthGrid(monthIndex);
+        sCache.put(monthIndex, monthGrid);
+
+        sRecentMonthsCount++;
+        moveToFront(sRecentMonthsCount - 1, monthIndex);
+
+        return monthGrid;
+    }
+
+    private static int indexOfRecentMonth(int monthIndex) {
+        for (int index = 0; index < sRecentMonthsCount; index++) {
+            if (sRecentMonths[index] == monthIndex) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    // Shifts more recently used months by one position and puts the month at the beginning
+    private static void moveToFront(int index, int monthIndex) {
+        System.arraycopy(sRecentMonths, 0, sRecentMonths, 1, index);
+        sRecentMonths[0] = monthIndex;
+    }
+
+    private MonthGrid(int monthIndex) {
+        mMonthIndex = monthIndex;
+        mFirstDayOfMonth = EpochDay.ofMonth(monthIndex, 1);
+        mMonthBeginningCell = EpochDay.getDayOfWeekPosition(mFirstDayOfMonth, FIRST_DAY_OF_WEEK);
+        mDaysInMonth = EpochDay.getDaysInMonth(monthIndex);
+
+        int daysInPreviousMonth = EpochDay.getDaysInMonth(monthIndex - 1);
+        int firstNextMonthCell = mMonthBeginningCell + mDaysInMonth;
+
+        for (int cell = 0; cell < CELLS_COUNT; cell++) {
+            mDays[cell] = mFirstDayOfMonth - mMonthBeginningCell + cell;
+
+            if (cell < mMonthBeginningCell) {
+                mDaysOfMonth[cell] = daysInPreviousMonth - mMonthBeginningCell + cell + 1;
+                mCellMonths[cell] = PREVIOUS_MONTH;
+            } else if (cell < firstNextMonthCell) {
+                mDaysOfMonth[cell] = cell - mMonthBeginningCell + 1;
+                mCellMonths[cell] = CURRENT_MONTH;
+            } else {
+                mDaysOfMonth[cell] = cell - firstNextMonthCell + 1;
+                mCellMonths[cell] = NEXT_MONTH;
+            }
+        }
+    }
+
+    public int getMonthIndex() {
+        return mMonthIndex;
+    }
+
+    /**
+     * @return A number of cells filled with days of a previous month
+     */
+    public int getMonthBeginningCell() {
+        return mMonthBeginningCell;
+    }
+
+    public int getDaysInMonth() {
+        return mDaysInMonth;
+    }
+
+    /**
+     * @return A number of cells filled with days of a next month
+     */
+    public int getNextMonthDaysCount() {
+        return CELLS_COUNT - mMonthBeginningCell - mDaysInMonth;
+    }
+
+    /**
+     * @return Epoch day of the first cell
+     */
+    public int getFirstDay() {
+        return mDays[0];
+    }
+
+    /**
+     * @return Epoch day of the last cell
+     */
+    public int getLastDay() {
+        return mDays[CELLS_COUNT - 1];
+    }
+
+    /**
+     * @param cell A position of the cell
+     * @return Epoch day of the cell
+     */
+    public int getDay(int cell) {
+        return mDays[cell];
+    }
+
+    /**
+     * @param cell A position of the cell
+     * @return A day of month displayed in the cell
+     */
+    public int getDayOfMonth(int cell) {
+        return mDaysOfMonth[cell];
+    }
+
+    /**
+     * @param cell A position of the cell
+     * @return A shared label of a day of month displayed in the cell
+     */
+    public String getDayLabel(int cell) {
+        return DAY_LABELS[mDaysOfMonth[cell]];
+    }
+
+    /**
+     * @param cell A position of the cell
+     * @return PREVIOUS_MONTH, CURRENT_MONTH or NEXT_MONTH
+     */
+    public int getCellMonth(int cell) {
+        return mCellMonths[cell];
+    }
+
+    /**
+     * @param epochDay Epoch day of the date
+     * @return Boolean value if the date belongs to the month of the grid
+     */
+    public boolean isCurrentMonthDay(int epochDay) {
+        return epochDay >= mFirstDayOfMonth && epochDay < mFirstDayOfMonth + mDaysInMonth;
+    }
+
+    /**
+     * @param epochDay Epoch day of the date
+     * @return A position of the cell containing the date or -1 if the date is not on the page
+     */
+    public int getCell(int epochDay) {
+        int cell = epochDay - mDays[0];
+        return cell >= 0 && cell < CELLS_COUNT ? cell : -1;
+    }
+}
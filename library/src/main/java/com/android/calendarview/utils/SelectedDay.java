@@ -14,9 +14,18 @@ public class SelectedDay {
     private View mView;
     private View mViewCell;
     private Calendar mCalendar;
+    private int mEpochDay;
 
     public SelectedDay(Calendar calendar) {
         mCalendar = calendar;
+        mEpochDay = EpochDay.of(calendar);
+    }
+
+    /**
+     * @param epochDay Epoch day of selected cell date, a Calendar object is created when requested
+     */
+    public SelectedDay(int epochDay) {
+        mEpochDay = epochDay;
     }
 
     /**
@@ -27,6 +36,17 @@ public class SelectedDay {
         mView = view;
         this.mViewCell = mViewCell;
         mCalendar = calendar;
+        mEpochDay = EpochDay.of(calendar);
+    }
+
+    /**
+     * @param view     View representing selected calendar cell
+     * @param epochDay Epoch day of selected cell date
+     */
+    public SelectedDay(View view, View mViewCell, int epochDay) {
+        mView = view;
+        this.mViewCell = mViewCell;
+        mEpochDay = epochDay;
     }
 
     /**
@@ -44,22 +64,38 @@ public class SelectedDay {
      * @return Calendar instance representing selected cell date
      */
     public Calendar getCalendar() {
+        if (mCalendar == null) {
+            mCalendar = EpochDay.toCalendar(mEpochDay);
+        }
+
         return mCalendar;
     }
 
+    /**
+     * @return Epoch day of the selected cell date
+     */
+    public int getEpochDay() {
+        return mEpochDay;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (obj instanceof SelectedDay) {
-            return getCalendar().equals(((SelectedDay) obj).getCalendar());
+            return mEpochDay == ((SelectedDay) obj).mEpochDay;
         }
 
         if (obj instanceof Calendar) {
-            return getCalendar().equals(obj);
+            return mEpochDay == EpochDay.of((Calendar) obj);
         }
 
         return super.equals(obj);
     }
 
+    @Override
+    public int hashCode() {
+        return mEpochDay;
+    }
+
     public View getViewCell() {
         return mViewCell;
     }
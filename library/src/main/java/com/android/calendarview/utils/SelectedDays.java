@@ -0,0 +1,266 @@
+package com.android.calendarview.utils;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * This class stores selected days keyed by an epoch day. Checking, adding and removing a day take
+ * constant time, and days are iterated in chronological order. The sorted order is built lazily
+ * and kept until the selection changes.
+ * <p>
+ * A range selection is stored as an interval of epoch days with a set of excluded (disabled) days.
+ * Days of the interval are expanded into SelectedDay objects only when the list is requested.
+ * <p>
+ */
+
+public class SelectedDays implements Iterable<SelectedDay> {
+    private final EpochDayMap<SelectedDay> mSelectedDays = new EpochDayMap<>();
+    private List<SelectedDay> mSortedSelectedDays;
+
+    private boolean mHasRange;
+    private int mRangeStart, mRangeEnd, mRangeSize;
+    private DayMaskSet mExcludedDays;
+
+    // A number of stored days which don't belong to the range
+    private int mDaysOutsideRange;
+
+    public boolean contains(int epochDay) {
+        return mSelectedDays.containsKey(epochDay) || isInRange(epochDay);
+    }
+
+    public boolean contains(Calendar day) {
+        return contains(EpochDay.of(day));
+    }
+
+    /**
+     * @param epochDay Epoch day of the selected day
+     * @return SelectedDay object or null if there is no stored object for the day, days of a range
+     * have no objects until they are added when bound to calendar cells
+     */
+    public SelectedDay get(int epochDay) {
+        return mSelectedDays.get(epochDay);
+    }
+
+    /**
+     * This method adds a selected day or replaces a previous one representing the same date
+     *
+     * @param selectedDay SelectedDay object which will be added
+     */
+    public void add(SelectedDay selectedDay) {
+        int epochDay = selectedDay.getEpochDay();
+
+        if (mSelectedDays.put(epochDay, selectedDay) == null && !isInRange(epochDay)) {
+            mDaysOutsideRange++;
+        }
+
+        mSortedSelectedDays = null;
+    }
+
+    /**
+     * This method removes a stored day, days of a range can be unselected only by clearing the
+     * whole selection
+     *
+     * @param epochDay Epoch day of the day which will be unselected
+     * @return Removed SelectedDay object or null if there was no such object
+     */
+    public SelectedDay remove(int epochDay) {
+        SelectedDay selectedDay = mSelectedDays.remove(epochDay);
+
+        if (selectedDay != null) {
+            if (!isInRange(epochDay)) {
+                mDaysOutsideRange--;
+            }
+
+            mSortedSelectedDays = null;
+        }
+
+        return selectedDay;
+    }
+
+    /**
+     * This method selects all days between two dates except excluded ones without creating
+     * an object per day
+     *
+     * @param firstEpochDay Epoch day of the first date of the range
+     * @param lastEpochDay  Epoch day of the last date of the range, it can be before the first one
+     * @param excludedDays  A set of days which don't belong to the range
+     */
+    public void setRange(int firstEpochDay, int lastEpochDay, DayMaskSet excludedDays) {
+        mHasRange = true;
+        mRangeStart = Math.min(firstEpochDay, lastEpochDay);
+        mRangeEnd = Math.max(firstEpochDay, lastEpochDay);
+        mExcludedDays = excludedDays;
+
+        updateRange();
+    }
+
+    /**
+     * @return A number of days between the first and the last day of the range (inclusive),
+     * including excluded ones, or 0 if there is no range
+     */
+    public int getRangeLength() {
+        return mHasRange ? mRangeEnd - mRangeStart + 1 : 0;
+    }
+
+    /**
+     * This method unselects all days which belong to the set
+     *
+     * @param days A set of days which cannot be selected
+     */
+    public void removeAll(DayMaskSet days) {
+        if (days.isEmpty()) {
+            return;
+        }
+
+        for (int epochDay : mSelectedDays.keys()) {
+            if (days.contains(epochDay)) {
+                remove(epochDay);
+            }
+        }
+
+        if (mHasRange) {
+            DayMaskSet excludedDays = new DayMaskSet();
+            excludedDays.addAll(mExcludedDays);
+            excludedDays.addAll(days);
+            mExcludedDays = excludedDays;
+
+            updateRange();
+        }
+    }
+
+    public void clear() {
+        mSelectedDays.clear();
+        mSortedSelectedDays = null;
+        mHasRange = false;
+        mExcludedDays = null;
+        mDaysOutsideRange = 0;
+    }
+
+    public int size() {
+        return mHasRange ? mRangeSize + mDaysOutsideRange : mSelectedDays.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return The earliest selected day or null if there is no selection
+     */
+    public SelectedDay getFirst() {
+        if (isEmpty()) {
+            return null;
+        }
+
+        if (!mHasRange || mDaysOutsideRange > 0) {
+            return toList().get(0);
+        }
+
+        // All stored days belong to the range, so the first not excluded day of the range wins
+        int epochDay = mRangeStart;
+
+        while (!isInRange(epochDay)) {
+            epochDay++;
+        }
+
+        SelectedDay selectedDay = mSelectedDays.get(epochDay);
+        return selectedDay != null ? selectedDay : new SelectedDay(epochDay);
+    }
+
+    /**
+     * @return A new set of all selected days, a range is added as month masks without expanding it
+     */
+    public DayMaskSet getDays() {
+        DayMaskSet days = new DayMaskSet();
+
+        if (mHasRange) {
+            days.addRange(mRangeStart, mRangeEnd);
+
+            if (mExcludedDays != null) {
+                days.removeAll(mExcludedDays);
+            }
+        }
+
+        for (int epochDay : mSelectedDays.keys()) {
+            days.add(epochDay);
+        }
+
+        return days;
+    }
+
+    /**
+     * @return Unmodifiable list of selected days sorted chronologically, a range is expanded here
+     */
+    public List<SelectedDay> toList() {
+        if (mSortedSelectedDays == null) {
+            int[] epochDays = getEpochDays();
+            SelectedDay[] selectedDays = new SelectedDay[epochDays.length];
+
+            for (int index = 0; index < epochDays.length; index++) {
+                SelectedDay selectedDay = mSelectedDays.get(epochDays[index]);
+                selectedDays[index] = selectedDay != null
+                        ? selectedDay : new SelectedDay(epochDays[index]);
+            }
+
+            mSortedSelectedDays = Collections.unmodifiableList(Arrays.asList(selectedDays));
+        }
+
+        return mSortedSelectedDays;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<SelectedDay> iterator() {
+        return toList().iterator();
+    }
+
+    private boolean isInRange(int epochDay) {
+        return mHasRange && epochDay >= mRangeStart && epochDay <= mRangeEnd
+                && (mExcludedDays == null || !mExcludedDays.contains(epochDay));
+    }
+
+    private void updateRange() {
+        mRangeSize = getRangeLength() - (mExcludedDays == null ? 0 : mExcludedDays.count(mRangeStart, mRangeEnd));
+        mDaysOutsideRange = 0;
+
+        for (int epochDay : mSelectedDays.keys()) {
+            if (!isInRange(epochDay)) {
+                mDaysOutsideRange++;
+            }
+        }
+
+        mSortedSelectedDays = null;
+    }
+
+    private int[] getEpochDays() {
+        int[] storedDays = mSelectedDays.keys();
+
+        if (!mHasRange) {
+            Arrays.sort(storedDays);
+            return storedDays;
+        }
+
+        int[] epochDays = new int[size()];
+        int index = 0;
+
+        for (int epochDay : storedDays) {
+            if (!isInRange(epochDay)) {
+                epochDays[index++] = epochDay;
+            }
+        }
+
+        for (int epochDay = mRangeStart; epochDay <= mRangeEnd; epochDay++) {
+            if (isInRange(epochDay)) {
+                epochDays[index++] = epochDay;
+            }
+        }
+
+        Arrays.sort(epochDays);
+        return epochDays;
+    }
+}
@@ -0,0 +1,109 @@
+package com.android.calendarview.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class EpochDayMapTest {
+
+    @Test
+    public void put_replacesValueOfTheSameDay() {
+        EpochDayMap<String> map = new EpochDayMap<>();
+
+        assertNull(map.put(-5, "first"));
+        assertEquals("first", map.put(-5, "second"));
+        assertEquals("second", map.get(-5));
+        assertEquals(1, map.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void put_rejectsNullValues() {
+        new EpochDayMap<String>().put(1, null);
+    }
+
+    @Test
+    public void remove_keepsCollidingEntriesReachable() {
+        EpochDayMap<Integer> map = new EpochDayMap<>();
+
+        // A small capacity makes probe sequences wrap around the table
+        for (int epochDay = 0; epochDay < 7; epochDay++) {
+            map.put(epochDay * 16, epochDay);
+        }
+
+        for (int epochDay = 0; epochDay < 7; epochDay += 2) {
+            assertEquals(Integer.valueOf(epochDay), map.remove(epochDay * 16));
+        }
+
+        for (int epochDay = 0; epochDay < 7; epochDay++) {
+            assertEquals(epochDay % 2 == 0 ? null : Integer.valueOf(epochDay), map.get(epochDay * 16));
+        }
+
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    public void removeAndReinsert_matchesHashMap() {
+        EpochDayMap<Integer> map = new EpochDayMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int step = 0; step < 20000; step++) {
+            int epochDay = random.nextInt(600) - 300;
+
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(epochDay), map.remove(epochDay));
+            } else {
+                assertEquals(expected.put(epochDay, step), map.put(epochDay, step));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+
+        for (int epochDay = -300; epochDay < 300; epochDay++) {
+            assertEquals(expected.get(epochDay), map.get(epochDay));
+            assertEquals(expected.containsKey(epochDay), map.containsKey(epochDay));
+        }
+    }
+
+    @Test
+    public void keys_returnsAllKeysAfterResize() {
+        EpochDayMap<String> map = new EpochDayMap<>(2);
+
+        for (int epochDay = -50; epochDay < 50; epochDay++) {
+            map.put(epochDay, "day");
+        }
+
+        int[] keys = map.keys();
+        Arrays.sort(keys);
+
+        assertEquals(100, keys.length);
+
+        for (int index = 0; index < keys.length; index++) {
+            assertEquals(index - 50, keys[index]);
+        }
+    }
+
+    @Test
+    public void clear_removesAllEntries() {
+        EpochDayMap<String> map = new EpochDayMap<>();
+        map.put(1, "day");
+        map.put(2, "day");
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(1));
+        assertEquals(0, map.keys().length);
+
+        map.put(1, "again");
+        assertEquals("again", map.get(1));
+    }
+}
@@ -0,0 +1,105 @@
+package com.android.calendarview.utils;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+
+import static org.junit.Assert.assertEquals;
+
+public class EpochDayTest {
+
+    @Test
+    public void of_returnsDaysSinceEpoch() {
+        assertEquals(0, EpochDay.of(1970, Calendar.JANUARY, 1));
+        assertEquals(-1, EpochDay.of(1969, Calendar.DECEMBER, 31));
+        assertEquals(10957, EpochDay.of(2000, Calendar.JANUARY, 1));
+        assertEquals(-719162, EpochDay.of(1, Calendar.JANUARY, 1));
+    }
+
+    @Test
+    public void of_countsLeapDays() {
+        assertEquals(EpochDay.of(2000, Calendar.MARCH, 1) - 1, EpochDay.of(2000, Calendar.FEBRUARY, 29));
+        assertEquals(EpochDay.of(1900, Calendar.FEBRUARY, 28) + 1, EpochDay.of(1900, Calendar.MARCH, 1));
+        assertEquals(EpochDay.of(2024, Calendar.FEBRUARY, 29) + 1, EpochDay.of(2024, Calendar.MARCH, 1));
+    }
+
+    @Test
+    public void of_matchesGregorianCalendarBeforeAndAfterEpoch() {
+        Calendar calendar = new GregorianCalendar(1899, Calendar.DECEMBER, 25);
+        int expectedEpochDay = EpochDay.of(1899, Calendar.DECEMBER, 25);
+
+        // Every day of about 250 years, including 1900 and 2000
+        for (int day = 0; day < 250 * 366; day++) {
+            assertEquals(expectedEpochDay + day, EpochDay.of(calendar));
+            calendar.add(Calendar.DAY_OF_MONTH, 1);
+        }
+    }
+
+    @Test
+    public void roundTrip_keepsYearMonthAndDayOfMonth() {
+        for (int epochDay = -800000; epochDay <= 800000; epochDay += 7) {
+            int year = EpochDay.getYear(epochDay);
+            int month = EpochDay.getMonth(epochDay);
+            int dayOfMonth = EpochDay.getDayOfMonth(epochDay);
+
+            assertEquals(epochDay, EpochDay.of(year, month, dayOfMonth));
+            assertEquals(year * 12 + month, EpochDay.getMonthIndex(epochDay));
+        }
+    }
+
+    @Test
+    public void toCalendar_returnsMidnightOfTheDate() {
+        int epochDay = EpochDay.of(1965, Calendar.FEBRUARY, 28);
+        Calendar calendar = EpochDay.toCalendar(epochDay);
+
+        assertEquals(1965, calendar.get(Calendar.YEAR));
+        assertEquals(Calendar.FEBRUARY, calendar.get(Calendar.MONTH));
+        assertEquals(28, calendar.get(Calendar.DAY_OF_MONTH));
+        assertEquals(0, calendar.get(Calendar.HOUR_OF_DAY));
+        assertEquals(epochDay, EpochDay.of(calendar));
+    }
+
+    @Test
+    public void getDayOfWeek_handlesNegativeEpochDays() {
+        assertEquals(Calendar.THURSDAY, EpochDay.getDayOfWeek(0));
+        assertEquals(Calendar.WEDNESDAY, EpochDay.getDayOfWeek(-1));
+        assertEquals(Calendar.THURSDAY, EpochDay.getDayOfWeek(-7));
+        assertEquals(Calendar.SATURDAY, EpochDay.getDayOfWeek(EpochDay.of(2000, Calendar.JANUARY, 1)));
+    }
+
+    @Test
+    public void getDayOfWeekPosition_countsFromFirstDayOfWeek() {
+        int monday = EpochDay.of(2024, Calendar.JANUARY, 1);
+
+        assertEquals(0, EpochDay.getDayOfWeekPosition(monday, Calendar.MONDAY));
+        assertEquals(1, EpochDay.getDayOfWeekPosition(monday, Calendar.SUNDAY));
+        assertEquals(6, EpochDay.getDayOfWeekPosition(monday - 1, Calendar.MONDAY));
+    }
+
+    @Test
+    public void plusMonths_clampsDayOfMonth() {
+        assertEquals(EpochDay.of(2024, Calendar.FEBRUARY, 29), EpochDay.plusMonths(EpochDay.of(2024, Calendar.JANUARY, 31), 1));
+        assertEquals(EpochDay.of(2023, Calendar.FEBRUARY, 28), EpochDay.plusMonths(EpochDay.of(2024, Calendar.FEBRUARY, 29), -12));
+        assertEquals(EpochDay.of(1969, Calendar.NOVEMBER, 30), EpochDay.plusMonths(EpochDay.of(1970, Calendar.JANUARY, 30), -2));
+    }
+
+    @Test
+    public void monthIndex_handlesNegativeIndexes() {
+        int monthIndex = -1 * 12 + Calendar.DECEMBER;
+
+        assertEquals(-1, EpochDay.getYearOfMonth(monthIndex));
+        assertEquals(Calendar.DECEMBER, EpochDay.getMonthOfMonth(monthIndex));
+        assertEquals(0, EpochDay.getYearOfMonth(0));
+        assertEquals(Calendar.JANUARY, EpochDay.getMonthOfMonth(0));
+    }
+
+    @Test
+    public void getDaysInMonth_followsLeapYearRules() {
+        assertEquals(29, EpochDay.getDaysInMonth(2000 * 12 + Calendar.FEBRUARY));
+        assertEquals(28, EpochDay.getDaysInMonth(1900 * 12 + Calendar.FEBRUARY));
+        assertEquals(29, EpochDay.getDaysInMonth(2024 * 12 + Calendar.FEBRUARY));
+        assertEquals(30, EpochDay.getDaysInMonth(2024 * 12 + Calendar.APRIL));
+        assertEquals(31, EpochDay.getDaysInMonth(2024 * 12 + Calendar.DECEMBER));
+    }
+}